@@ -29,4 +29,49 @@ public final class GameConfig {
      * Если {@code true}, игрок не получает урон и становится неуязвимым.
      */
     public static boolean GOD_MODE = false;
+
+    /**
+     * Режим бесконечного мира.
+     * <p>
+     * Если {@code true}, карта не генерируется заранее: содержимое каждого чанка
+     * вычисляется из зерна и координат при первом обращении, а камера не ограничена границами.
+     * Если {@code false}, используется заранее сгенерированная карта фиксированного размера.
+     */
+    public static boolean INFINITE_WORLD = false;
+
+    /**
+     * Путь к файлу карты в бинарном формате.
+     * <p>
+     * Если файл существует, карта не генерируется, а открывается через отображение в память,
+     * и чанки декодируются только по мере необходимости. Если файла нет, сгенерированная
+     * карта сохраняется по этому пути для следующих запусков.
+     * Значение {@code null} отключает сохранение и загрузку. Не используется в бесконечном мире.
+     */
+    public static String MAP_FILE = null;
+
+    /**
+     * Бюджет памяти LRU-кеша отсоединённых чанков карты, в байтах.
+     * <p>
+     * Учитываются пиксели изображений чанков (4 байта на пиксель).
+     * Полный чанк при тайле 128 px занимает около 2,4 МБ, поэтому 48 МБ — это примерно 20 чанков.
+     */
+    public static long CHUNK_CACHE_BUDGET_BYTES = 48L * 1024 * 1024;
+
+    /**
+     * Режим орды.
+     * <p>
+     * Если {@code true}, волны спавнят не сущности гоблинов, а записи в массивах {@code HordeStore}:
+     * всех мобов обновляет один цикл {@code HordeSystem}, а сущности-прокси есть только у видимых мобов.
+     * Позволяет держать тысячи мобов одновременно. Если {@code false}, каждый гоблин — отдельная сущность.
+     */
+    public static boolean HORDE_MODE = false;
+
+    /**
+     * Пакетная отрисовка мобов.
+     * <p>
+     * Если {@code true}, у гоблинов (и прокси орды) нет собственных узлов сцены: все видимые мобы
+     * и их полосы здоровья рисуются каждый кадр на одном холсте {@code MobCanvasRenderer}, отсортированные по Y.
+     * Если {@code false}, у каждого гоблина свой {@code ImageView} и {@code Rectangle} полосы здоровья.
+     */
+    public static boolean CANVAS_MOB_RENDERER = false;
 }
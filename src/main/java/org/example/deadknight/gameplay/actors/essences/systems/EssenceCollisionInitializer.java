@@ -2,7 +2,7 @@ package org.example.deadknight.gameplay.actors.essences.systems;
 
 import com.almasb.fxgl.dsl.FXGL;
 import org.example.deadknight.gameplay.actors.essences.services.EssenceCollisionService;
-import org.example.deadknight.gameplay.components.HealthComponent;
+import org.example.deadknight.gameplay.combat.CombatSystem;
 import org.example.deadknight.gameplay.components.UpgradeComponent;
 import org.example.deadknight.gameplay.components.types.EntityTypeEssences;
 
@@ -12,8 +12,8 @@ import org.example.deadknight.gameplay.components.types.EntityTypeEssences;
  * Регистрирует обработчики столкновений между игроком ({@code EntityType.KNIGHT})
  * и различными типами эссенций:
  * <ul>
- *     <li>{@link EntityTypeEssences#HEALTH_ESSENCE} — увеличивает здоровье игрока на величину healAmount
- *     из эссенции, но не выше максимального значения.</li>
+ *     <li>{@link EntityTypeEssences#HEALTH_ESSENCE} — ставит в очередь {@link CombatSystem} лечение игрока
+ *     на величину healAmount из эссенции (не выше максимального значения).</li>
  *     <li>{@link EntityTypeEssences#UPGRADE_ESSENCE} — увеличивает счётчик апгрейдов
  *     в {@link UpgradeComponent} и удаляет эссенцию из мира.</li>
  * </ul>
@@ -44,10 +44,8 @@ public class EssenceCollisionInitializer {
     /** Регистрирует коллизию для эссенции здоровья */
     private void registerHealthEssence(EssenceCollisionService collisionService) {
         collisionService.registerCollision(EntityTypeEssences.HEALTH_ESSENCE, (player, essence) -> {
-            HealthComponent health = player.getComponent(HealthComponent.class);
             int healAmount = essence.getInt("healAmount"); // берём из эссенции
-            int newHealth = Math.min(health.getValue() + healAmount, health.getMaxValue());
-            health.valueProperty().set(newHealth);
+            CombatSystem.heal(player, healAmount);
         });
     }
 
@@ -4,13 +4,21 @@ import com.almasb.fxgl.entity.component.Component;
 import javafx.scene.CacheHint;
 import javafx.scene.image.ImageView;
 import lombok.Getter;
+import org.example.deadknight.config.GameConfig;
 import org.example.deadknight.gameplay.actors.mobs.entities.GoblinEntity;
+import org.example.deadknight.gameplay.components.HealthComponent;
+import org.example.deadknight.infrastructure.assets.AnimationClip;
+import org.example.deadknight.infrastructure.render.services.MobCanvasRenderer;
 
 /**
  * Компонент анимации для сущности гоблина.
  * <p>
  * Отвечает за воспроизведение анимаций ходьбы и атаки,
  * а также за смену направления взгляда сущности.
+ * <p>
+ * Кадры берутся из общих {@link AnimationClip}; у сущности есть ровно один {@link ImageView},
+ * в котором меняется изображение. При {@link GameConfig#CANVAS_MOB_RENDERER} узла нет вовсе:
+ * компонент только помнит текущий кадр, а рисует его {@link MobCanvasRenderer} через {@link #drawTo}.
  */
 public class AnimationComponent extends Component {
 
@@ -43,21 +51,28 @@ public class AnimationComponent extends Component {
     /** Направление взгляда гоблина (true — вправо, false — влево) */
     private boolean facingRight = true;
 
-    /** Массив кадров анимации ходьбы вправо */
-    private final ImageView[] walkRight;
+    /** Клип анимации ходьбы вправо */
+    private final AnimationClip walkRight;
 
-    /** Массив кадров анимации ходьбы влево */
-    private final ImageView[] walkLeft;
+    /** Клип анимации ходьбы влево */
+    private final AnimationClip walkLeft;
 
-    /** Массив кадров анимации атаки вправо */
-    private final ImageView[] attackRight;
+    /** Клип анимации атаки вправо */
+    private final AnimationClip attackRight;
 
-    /** Массив кадров анимации атаки влево */
-    private final ImageView[] attackLeft;
+    /** Клип анимации атаки влево */
+    private final AnimationClip attackLeft;
 
-    /** Текущий отображаемый кадр */
+    /** Единственный узел сцены, отображающий текущий кадр ({@code null} при пакетной отрисовке) */
     private ImageView currentSprite;
 
+    /** Текущий клип и кадр в нём */
+    private AnimationClip currentClip;
+    private int currentFrame;
+
+    /** Здоровье сущности для полосы здоровья при пакетной отрисовке */
+    private HealthComponent health;
+
     /**
      * Создаёт компонент анимации для гоблина.
      *
@@ -75,16 +90,22 @@ public class AnimationComponent extends Component {
 
     /**
      * Инициализация компонента после добавления к сущности.
-     * Создаётся ImageView для отображения текущего кадра анимации.
+     * Создаётся единственный ImageView для отображения текущего кадра анимации
+     * (при пакетной отрисовке вид сущности остаётся пустым).
      */
     @Override
     public void onAdded() {
-        currentSprite = new ImageView(walkRight[0].getImage());
-        currentSprite.setFitWidth(goblinData.getWalkRight()[0].getFitWidth());
-        currentSprite.setFitHeight(goblinData.getWalkRight()[0].getFitHeight());
+        if (GameConfig.CANVAS_MOB_RENDERER) {
+            health = entity.getComponentOptional(HealthComponent.class).orElse(null);
+            setFrame(walkRight, 0);
+            return;
+        }
+
+        currentSprite = new ImageView();
         currentSprite.setSmooth(true);
         currentSprite.setCache(true);
         currentSprite.setCacheHint(CacheHint.SPEED);
+        setFrame(walkRight, 0);
 
         entity.getViewComponent().clearChildren();
         entity.getViewComponent().addChild(currentSprite);
@@ -93,13 +114,18 @@ public class AnimationComponent extends Component {
     /**
      * Устанавливает текущий кадр анимации.
      *
-     * @param frame кадр, который нужно отобразить
+     * @param clip  клип, из которого берётся кадр
+     * @param index индекс кадра в клипе
      */
-    private void setFrame(ImageView frame) {
-        currentSprite.setImage(frame.getImage());
-        currentSprite.setFitWidth(frame.getFitWidth());
-        currentSprite.setFitHeight(frame.getFitHeight());
-        currentSprite.setScaleX(frame.getScaleX());
+    private void setFrame(AnimationClip clip, int index) {
+        currentClip = clip;
+        currentFrame = index;
+        if (currentSprite == null) return;
+
+        currentSprite.setImage(clip.getFrame(index));
+        currentSprite.setFitWidth(clip.getFrameWidth());
+        currentSprite.setFitHeight(clip.getFrameHeight());
+        currentSprite.setScaleX(clip.getScaleX());
     }
 
     /**
@@ -112,9 +138,7 @@ public class AnimationComponent extends Component {
             this.facingRight = facingRight;
 
             // Смена направления сбрасывает индексы и время анимаций
-            entity.getViewComponent().removeChild(currentSprite);
-            currentSprite = facingRight ? walkRight[0] : walkLeft[0];
-            entity.getViewComponent().addChild(currentSprite);
+            setFrame(facingRight ? walkRight : walkLeft, 0);
 
             walkIndex = 0;
             attackIndex = 0;
@@ -145,9 +169,9 @@ public class AnimationComponent extends Component {
     private void updateWalkAnimation(double tpf) {
         walkElapsed += tpf;
         if (walkElapsed >= WALK_FRAME_TIME) {
-            ImageView[] frames = facingRight ? walkRight : walkLeft;
-            setFrame(frames[walkIndex]);
-            walkIndex = (walkIndex + 1) % frames.length;
+            AnimationClip clip = facingRight ? walkRight : walkLeft;
+            setFrame(clip, walkIndex);
+            walkIndex = (walkIndex + 1) % clip.getFrameCount();
             walkElapsed = 0;
         }
     }
@@ -160,10 +184,10 @@ public class AnimationComponent extends Component {
     private void updateAttackAnimation(double tpf) {
         attackElapsed += tpf;
         if (attackElapsed >= ATTACK_FRAME_TIME) {
-            ImageView[] frames = facingRight ? attackRight : attackLeft;
+            AnimationClip clip = facingRight ? attackRight : attackLeft;
 
-            if (attackIndex < frames.length) {
-                setFrame(frames[attackIndex]);
+            if (attackIndex < clip.getFrameCount()) {
+                setFrame(clip, attackIndex);
                 attackIndex++;
                 attackElapsed = 0;
             } else {
@@ -171,11 +195,22 @@ public class AnimationComponent extends Component {
                 attackIndex = 0;
                 walkElapsed = 0;
 
-                setFrame(facingRight ? walkRight[walkIndex] : walkLeft[walkIndex]);
+                setFrame(facingRight ? walkRight : walkLeft, walkIndex);
             }
         }
     }
 
+    /** Возвращает анимацию в начальное состояние: ходьба вправо с первого кадра */
+    public void reset() {
+        attacking = false;
+        facingRight = true;
+        walkIndex = 0;
+        attackIndex = 0;
+        walkElapsed = 0;
+        attackElapsed = 0;
+        setFrame(walkRight, 0);
+    }
+
     /**
      * Запускает анимацию атаки.
      * Если гоблин уже атакует, вызов игнорируется.
@@ -187,6 +222,16 @@ public class AnimationComponent extends Component {
         attackElapsed = 0;
     }
 
+    /**
+     * Добавляет текущий кадр сущности в пакетную отрисовку.
+     *
+     * @param renderer холст мобов
+     */
+    public void drawTo(MobCanvasRenderer renderer) {
+        double healthFraction = health != null ? (double) health.getValue() / health.getMaxValue() : 1;
+        renderer.add(entity.getX(), entity.getY(), currentClip, currentFrame, healthFraction);
+    }
+
     /**
      * Проверяет направление взгляда гоблина.
      *
@@ -2,6 +2,8 @@ package org.example.deadknight.gameplay.actors.mobs.components;
 
 import com.almasb.fxgl.entity.component.Component;
 import com.almasb.fxgl.entity.Entity;
+import javafx.geometry.Point2D;
+import org.example.deadknight.gameplay.combat.CombatSystem;
 import org.example.deadknight.gameplay.components.HealthComponent;
 
 
@@ -31,6 +33,11 @@ public class AttackComponent extends Component {
         this.cooldown = cooldown;
     }
 
+    /** Сбрасывает таймер перезарядки */
+    public void reset() {
+        lastAttackTime = 0;
+    }
+
     /**
      * Пытается нанести урон указанной сущности (например, игроку).
      * <p>
@@ -45,12 +52,10 @@ public class AttackComponent extends Component {
         lastAttackTime += tpf;
         if (lastAttackTime >= cooldown) {
             lastAttackTime = 0;
+            // урон и смерть игрока разрешает CombatSystem в конце кадра
             player.getComponentOptional(HealthComponent.class).ifPresent(h -> {
                 if (!h.isDead()) {
-                    h.takeDamage(damage);
-                    if (h.isDead()) {
-                        player.removeFromWorld();
-                    }
+                    CombatSystem.damage(player, h, null, damage, Point2D.ZERO);
                 }
             });
             entity.getComponentOptional(AnimationComponent.class)
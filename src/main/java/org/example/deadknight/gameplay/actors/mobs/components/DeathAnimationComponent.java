@@ -5,6 +5,7 @@ import com.almasb.fxgl.entity.Entity;
 import com.almasb.fxgl.entity.component.Component;
 import javafx.scene.image.ImageView;
 import javafx.geometry.Point2D;
+import org.example.deadknight.infrastructure.assets.AnimationClip;
 
 /**
  * Компонент для проигрывания анимации смерти сущности.
@@ -22,8 +23,8 @@ import javafx.geometry.Point2D;
  */
 public class DeathAnimationComponent extends Component {
 
-    /** Кадры анимации смерти */
-    private final ImageView[] deathFrames;
+    /** Общий клип анимации смерти */
+    private final AnimationClip deathFrames;
 
     /** Направление отображения (true — вправо, false — влево) */
     private final boolean facingRight;
@@ -32,10 +33,10 @@ public class DeathAnimationComponent extends Component {
      * Конструктор.
      * Создаёт компонент анимации смерти.
      *
-     * @param deathFrames массив кадров анимации
+     * @param deathFrames клип анимации смерти
      * @param facingRight направление (true — вправо, false — влево)
      */
-    public DeathAnimationComponent(ImageView[] deathFrames, boolean facingRight) {
+    public DeathAnimationComponent(AnimationClip deathFrames, boolean facingRight) {
         this.deathFrames = deathFrames;
         this.facingRight = facingRight;
     }
@@ -53,7 +54,7 @@ public class DeathAnimationComponent extends Component {
      */
     @Override
     public void onAdded() {
-        if (deathFrames == null || deathFrames.length == 0) {
+        if (deathFrames == null) {
             return;
         }
 
@@ -118,8 +119,8 @@ public class DeathAnimationComponent extends Component {
      */
     private static class AnimationRunner extends Component {
 
-        /** Кадры анимации */
-        private final ImageView[] frames; // берем массив кадров для анимации
+        /** Клип анимации */
+        private final AnimationClip frames;
 
         /** Направление отображения */
         private final boolean facingRight;
@@ -139,10 +140,10 @@ public class DeathAnimationComponent extends Component {
         /**
          * Создаёт компонент проигрывателя анимации.
          *
-         * @param frames массив кадров анимации
+         * @param frames клип анимации
          * @param facingRight направление (true — вправо, false — влево)
          */
-        public AnimationRunner(ImageView[] frames, boolean facingRight) {
+        public AnimationRunner(AnimationClip frames, boolean facingRight) {
             this.frames = frames;
             this.facingRight = facingRight;
         }
@@ -170,9 +171,7 @@ public class DeathAnimationComponent extends Component {
          * Создаёт первый кадр анимации и добавляет его в сущность.
          */
         private void createView() {
-            if (frames.length == 0) return;
-
-            view = new ImageView(frames[0].getImage());
+            view = new ImageView(frames.getFrame(0));
             view.setFitWidth(100);
             view.setFitHeight(100);
             view.setScaleX(facingRight ? 1 : -1);
@@ -193,13 +192,13 @@ public class DeathAnimationComponent extends Component {
             if (view == null) return;
 
             time += tpf;
-            if (time >= FRAME_TIME && frame < frames.length) {
-                view.setImage(frames[frame].getImage());
+            if (time >= FRAME_TIME && frame < frames.getFrameCount()) {
+                view.setImage(frames.getFrame(frame));
                 frame++;
                 time = 0;
             }
 
-            if (frame >= frames.length) {
+            if (frame >= frames.getFrameCount()) {
                 entity.removeFromWorld();
             }
         }
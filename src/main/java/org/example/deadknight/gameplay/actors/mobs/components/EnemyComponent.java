@@ -12,6 +12,8 @@ import org.example.deadknight.gameplay.actors.mobs.service.MovementService;
 import org.example.deadknight.gameplay.actors.player.services.PlayerService;
 import org.example.deadknight.gameplay.components.HealthComponent;
 import org.example.deadknight.gameplay.components.SpeedComponent;
+import org.example.deadknight.gameplay.systems.AiLodScheduler;
+import org.example.deadknight.gameplay.systems.types.AiLodTier;
 
 /**
  * Компонент, управляющий поведением врага (например, {@link GoblinEntity}).
@@ -25,6 +27,10 @@ import org.example.deadknight.gameplay.components.SpeedComponent;
  * </ul>
  * Вся логика делегируется сервисам:
  * {@link MovementService}, {@link CombatService}, {@link DeathAnimationService}.
+ * <p>
+ * Частота обновления зависит от уровня детализации {@link AiLodTier}, который назначает
+ * {@link AiLodScheduler}: на экране — каждый кадр, рядом с экраном — раз в
+ * {@link #NEAR_UPDATE_INTERVAL} с накопленным tpf, далеко — движение по прямой без анимации.
  */
 @Getter
 @Setter
@@ -39,6 +45,12 @@ public class EnemyComponent extends Component {
     /** Интервал поиска игрока в секундах */
     private static final double PLAYER_SEARCH_INTERVAL = 1.0;
 
+    /** Интервал обновления поведения на уровне {@link AiLodTier#NEAR} в секундах */
+    private static final double NEAR_UPDATE_INTERVAL = 0.1;
+
+    /** Интервал перенацеливания на игрока на уровне {@link AiLodTier#FAR} в секундах */
+    private static final double FAR_REAIM_INTERVAL = 0.5;
+
     /** Данные врага (скорость, урон, анимации и т.д.) */
     private final GoblinEntity goblinData;
 
@@ -66,6 +78,15 @@ public class EnemyComponent extends Component {
     /** Кэшированный компонент здоровья */
     private HealthComponent healthComponent;
 
+    /** Текущий уровень детализации ИИ */
+    private AiLodTier lodTier = AiLodTier.FULL;
+
+    /** Время, накопленное с последнего обновления на уровне {@link AiLodTier#NEAR} */
+    private double lodElapsed;
+
+    /** Время с последнего перенацеливания на уровне {@link AiLodTier#FAR} */
+    private double reaimTimer;
+
     /**
      * Создает компонент для управления поведением врага.
      *
@@ -85,6 +106,8 @@ public class EnemyComponent extends Component {
         initServices();
         cacheCommonComponents();
         updatePlayer(); // первый поиск игрока
+
+        lodElapsed = staggeredStart();
     }
 
     /**
@@ -92,7 +115,7 @@ public class EnemyComponent extends Component {
      * <ul>
      *     <li>обрабатывает смерть</li>
      *     <li>обновляет игрока с интервалом</li>
-     *     <li>выполняет движение или атаку</li>
+     *     <li>выполняет движение или атаку с частотой, заданной уровнем {@link #lodTier}</li>
      * </ul>
      *
      * @param tpf время на кадр (time per frame)
@@ -101,10 +124,55 @@ public class EnemyComponent extends Component {
     public void onUpdate(double tpf) {
         if (handleDeath()) return;
 
-        updatePlayerIfNeeded(tpf);
-        if (player == null) return;
+        long start = System.nanoTime();
+        switch (lodTier) {
+            case FULL -> updateBehaviour(tpf);
+            case NEAR -> {
+                lodElapsed += tpf;
+                if (lodElapsed >= NEAR_UPDATE_INTERVAL) {
+                    updateBehaviour(lodElapsed);
+                    lodElapsed = 0;
+                }
+            }
+            case FAR -> updateDeadReckoning(tpf);
+        }
+        AiLodScheduler.record(lodTier, System.nanoTime() - start);
+    }
 
-        handleCombatAndMovement(tpf);
+    /**
+     * Возвращает врага в начальное состояние перед повторным использованием из пула:
+     * таймеры, цель, уровень детализации, перезарядку атаки, анимацию и флаг смерти.
+     */
+    public void reset() {
+        setLodTier(AiLodTier.FULL);
+        player = null;
+        playerSearchTimer = 0;
+        reaimTimer = 0;
+        lodElapsed = staggeredStart();
+
+        movementService.stop();
+        attackComponent.reset();
+        animationComponent.reset();
+        deathAnimationService.reset();
+    }
+
+    /**
+     * Меняет уровень детализации ИИ.
+     * Вне экрана анимация ставится на паузу: её всё равно не видно.
+     *
+     * @param tier новый уровень
+     */
+    public void setLodTier(AiLodTier tier) {
+        if (lodTier == tier) return;
+        if (tier == AiLodTier.FULL) {
+            animationComponent.resume();
+        } else if (lodTier == AiLodTier.FULL) {
+            animationComponent.pause();
+        }
+        if (tier == AiLodTier.FAR) {
+            reaimTimer = FAR_REAIM_INTERVAL; // сразу нацелиться на игрока
+        }
+        lodTier = tier;
     }
 
     // --- Вспомогательные методы ---
@@ -144,6 +212,35 @@ public class EnemyComponent extends Component {
         }
     }
 
+    /** Начальное накопленное время: разносит редкие обновления мобов по разным кадрам, чтобы они не совпадали */
+    private double staggeredStart() {
+        return (System.identityHashCode(entity) & 0xFF) / 256.0 * NEAR_UPDATE_INTERVAL;
+    }
+
+    /** Полное поведение: поиск игрока, движение или атака */
+    private void updateBehaviour(double tpf) {
+        updatePlayerIfNeeded(tpf);
+        if (player == null) return;
+
+        handleCombatAndMovement(tpf);
+    }
+
+    /**
+     * Дешёвое движение далёкого моба: направление на игрока пересчитывается раз в
+     * {@link #FAR_REAIM_INTERVAL}, между пересчётами моб идёт по прямой без анимации и поля направлений.
+     */
+    private void updateDeadReckoning(double tpf) {
+        updatePlayerIfNeeded(tpf);
+        if (player == null) return;
+
+        reaimTimer += tpf;
+        if (reaimTimer >= FAR_REAIM_INTERVAL) {
+            movementService.aimAt(player);
+            reaimTimer = 0;
+        }
+        movementService.coast(tpf);
+    }
+
     /**
      * Выполняет движение или атаку в зависимости от дистанции до игрока.
      *
@@ -158,15 +255,13 @@ public class EnemyComponent extends Component {
     }
 
     /**
-     * Обрабатывает смерть врага: проигрывает анимацию и выбрасывает дроп.
+     * Обрабатывает смерть врага: проигрывает анимацию.
+     * Дроп выбрасывает слушатель {@code CombatSystem} в момент смерти.
      *
      * @return true, если враг мертв и анимация смерти уже запущена
      */
     private boolean handleDeath() {
         if (healthComponent.isDead() && !deathAnimationService.isDeathPlayed()) {
-            entity.getComponentOptional(DropComponent.class)
-                    .ifPresent(drop -> drop.dropLoot(entity.getPosition()));
-
             deathAnimationService.playDeathAnimation();
             return true;
         }
@@ -1,8 +1,8 @@
 package org.example.deadknight.gameplay.actors.mobs.entities;
 
-import javafx.scene.image.ImageView;
 import lombok.Getter;
 import lombok.Setter;
+import org.example.deadknight.infrastructure.assets.AnimationClip;
 
 /**
  * Класс, представляющий данные моба типа "Гоблин".
@@ -13,6 +13,8 @@ import lombok.Setter;
  *     <li>Урон атаки {@link #damage}</li>
 
  * </ul>
+ * <p>
+ * Анимации — общие неизменяемые {@link AnimationClip}: один объект данных разделяют все гоблины.
  */
 @Getter
 @Setter
@@ -27,20 +29,20 @@ public class GoblinEntity {
     /** Здоровье моба */
     private final int health;
 
-    // Кадры для движения и атаки
-    private final ImageView[] walkRight;
-    private final ImageView[] walkLeft;
-    private final ImageView[] attackRight;
-    private final ImageView[] attackLeft;
-    private final ImageView[] deathFrames;
+    // Клипы движения, атаки и смерти
+    private final AnimationClip walkRight;
+    private final AnimationClip walkLeft;
+    private final AnimationClip attackRight;
+    private final AnimationClip attackLeft;
+    private final AnimationClip deathFrames;
 
     public GoblinEntity(double speed,
                         int damage, int health,
-                        ImageView[] walkRight,
-                        ImageView[] walkLeft,
-                        ImageView[] attackRight,
-                        ImageView[] attackLeft,
-                        ImageView[] deathFrames) {
+                        AnimationClip walkRight,
+                        AnimationClip walkLeft,
+                        AnimationClip attackRight,
+                        AnimationClip attackLeft,
+                        AnimationClip deathFrames) {
         this.speed = speed;
         this.damage = damage;
         this.health = health;
@@ -5,7 +5,9 @@ import com.almasb.fxgl.dsl.FXGL;
 import com.almasb.fxgl.physics.BoundingShape;
 import com.almasb.fxgl.physics.HitBox;
 import javafx.scene.image.ImageView;
+import org.example.deadknight.gameplay.components.DamageableComponent;
 import org.example.deadknight.gameplay.components.HealthComponent;
+import org.example.deadknight.gameplay.components.types.Faction;
 import org.example.deadknight.gameplay.actors.mobs.entities.types.EntityType;
 
 /**
@@ -17,7 +19,7 @@ import org.example.deadknight.gameplay.actors.mobs.entities.types.EntityType;
  *     <li>HitBox для коллизий</li>
  *     <li>Тип {@link EntityType#SPIKES}</li>
  *     <li>Компонент здоровья {@link HealthComponent}</li>
- *     <li>Свойство {@code canTakeDamage} для возможности получения урона</li>
+ *     <li>Компонент {@link DamageableComponent} нейтральной стороны для возможности получения урона</li>
  * </ul>
  */
 public class Spikes {
@@ -41,10 +43,9 @@ public class Spikes {
                 .bbox(new HitBox("BODY", BoundingShape.box(64, 64)))
                 .type(EntityType.SPIKES)
                 .with(new HealthComponent(50)) // добавляем здоровье
+                .with(new DamageableComponent(Faction.NEUTRAL, 0, 0)) // не отталкиваются
                 .build();
 
-        spikes.getProperties().setValue("canTakeDamage", true);
-
         return spikes;
     }
 }
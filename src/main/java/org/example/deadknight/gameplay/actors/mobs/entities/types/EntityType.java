@@ -1,3 +1,3 @@
 package org.example.deadknight.gameplay.actors.mobs.entities.types;
 
-public enum EntityType {SPIKES, HOSTILE_MOB}
\ No newline at end of file
+public enum EntityType {SPIKES, HOSTILE_MOB, POOLED_MOB, HORDE_MOB}
\ No newline at end of file
@@ -12,7 +12,10 @@ import javafx.geometry.Point2D;
 import javafx.scene.image.ImageView;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Rectangle;
+import org.example.deadknight.config.GameConfig;
 import org.example.deadknight.gameplay.actors.mobs.components.DropComponent;
+import org.example.deadknight.infrastructure.assets.AnimationClip;
+import org.example.deadknight.infrastructure.assets.AnimationClipRegistry;
 import org.example.deadknight.infrastructure.assets.GoblinAnimationLoader;
 import org.example.deadknight.gameplay.components.*;
 import org.example.deadknight.gameplay.actors.mobs.components.EnemyComponent;
@@ -21,6 +24,7 @@ import org.example.deadknight.gameplay.components.SeparationComponent;
 import org.example.deadknight.gameplay.actors.mobs.entities.GoblinEntity;
 import org.example.deadknight.gameplay.actors.mobs.entities.types.EntityType;
 import org.example.deadknight.gameplay.components.debug.DebugHitBoxComponent;
+import org.example.deadknight.gameplay.components.types.Faction;
 import org.example.deadknight.gameplay.services.LootService;
 
 /**
@@ -32,8 +36,9 @@ import org.example.deadknight.gameplay.services.LootService;
  *     <li>{@link HealthComponent} — здоровье с визуальным хитбаром.</li>
  *     <li>{@link SeparationComponent} — предотвращение наложения сущностей.</li>
  *     <li>{@link PushComponent} — возможность отталкивания.</li>
+ *     <li>{@link DamageableComponent} — цель атак игрока с силой отталкивания волной.</li>
  *     <li>Коллизии через {@link HitBox}.</li>
- *     <li>Визуализация через {@link ImageView} с анимацией ходьбы и атаки.</li>
+ *     <li>Визуализация через единственный {@link ImageView} на сущность с анимацией ходьбы и атаки.</li>
  * </ul>
  * <p>
  * Использует аннотацию {@link Spawns} для регистрации типа "goblin" в FXGL.
@@ -43,8 +48,14 @@ public class GoblinFactory implements EntityFactory {
     /** Размер гоблина (ширина и высота спрайта) */
     private final int goblinSize = 140;
 
+    /** Сила отталкивания гоблина при попадании */
+    private static final double PUSH_STRENGTH = 300;
+
     private final LootService lootService;
 
+    /** Общие данные всех гоблинов: характеристики и клипы анимации (создаются при первом спавне) */
+    private GoblinEntity goblinData;
+
     public GoblinFactory(LootService lootService) {
         this.lootService = lootService;
     }
@@ -58,31 +69,26 @@ public class GoblinFactory implements EntityFactory {
     @Spawns("goblin")
     public Entity newGoblin(SpawnData data) {
 
-        GoblinEntity goblinData = createGoblinData();
-        ImageView goblinView = createGoblinView(goblinData.getWalkRight()[0]);
-        Entity goblin = buildGoblinEntity(data, goblinData, goblinView, goblinData.getHealth());
+        if (goblinData == null) goblinData = createGoblinData();
+        Entity goblin = buildGoblinEntity(data, goblinData, goblinData.getHealth());
 
-        attachHealthBar(goblin);
-
-        // Свойства сущности
-        goblin.getProperties().setValue("canTakeDamage", true);
-        goblin.getProperties().setValue("wavePushStrength", 300); // сила отталкивания от волны
+        if (!GameConfig.CANVAS_MOB_RENDERER) attachHealthBar(goblin); // иначе полосу рисует холст мобов
 
         return goblin;
     }
 
     /**
-     * Создает объект {@link GoblinEntity} с заранее загруженными кадрами анимации.
+     * Создает объект {@link GoblinEntity} с общими клипами анимации из {@link AnimationClipRegistry}.
      *
      * @return объект {@link GoblinEntity} с анимацией ходьбы, атаки и смерти
      */
     private GoblinEntity createGoblinData() {
         GoblinAnimationLoader loader = new GoblinAnimationLoader(goblinSize);
-        ImageView[] walkRight = loader.loadWalkRight();
-        ImageView[] walkLeft  = loader.loadWalkLeft();
-        ImageView[] attackRight = loader.loadAttackRight();
-        ImageView[] attackLeft  = loader.loadAttackLeft();
-        ImageView[] deathFrames  = loader.loadDeathFrames();
+        AnimationClip walkRight = loader.loadWalkRight();
+        AnimationClip walkLeft  = loader.loadWalkLeft();
+        AnimationClip attackRight = loader.loadAttackRight();
+        AnimationClip attackLeft  = loader.loadAttackLeft();
+        AnimationClip deathFrames  = loader.loadDeathFrames();
 
         return new GoblinEntity(
                 100,  // скорость
@@ -101,21 +107,20 @@ public class GoblinFactory implements EntityFactory {
      *
      * @param data данные спавна
      * @param goblinData данные гоблина (скорость, кадры анимации и т.д.)
-     * @param view первый кадр спрайта гоблина
      * @param health количество здоровья гоблина
      * @return готовая сущность {@link Entity} с компонентами
      */
-    private Entity buildGoblinEntity(SpawnData data, GoblinEntity goblinData, ImageView view, int health) {
+    private Entity buildGoblinEntity(SpawnData data, GoblinEntity goblinData, int health) {
         DropComponent drop = new DropComponent("goblin_basic", lootService);
 
         return FXGL.entityBuilder(data)
                 .type(EntityType.HOSTILE_MOB)
-                .view(view)
                 .bbox(new HitBox("BODY", new Point2D(65, 80), BoundingShape.box(10, 30)))
                 .with(new HealthComponent(health))
                 .with(new EnemyComponent(goblinData))
                 .with(new SeparationComponent(50, 0.5))
                 .with(new PushComponent())
+                .with(new DamageableComponent(Faction.MONSTER, 0, PUSH_STRENGTH))
                 .with(new DebugHitBoxComponent())
                 .with(drop)  // компонент дропа
                 .collidable()
@@ -123,7 +128,7 @@ public class GoblinFactory implements EntityFactory {
     }
 
     /**
-     * Предзагружает текстуры анимаций гоблина в отдельном потоке.
+     * Предзагружает клипы анимаций гоблина в {@link AnimationClipRegistry} в отдельном потоке.
      * <p>
      * После завершения загрузки вызывается {@code onComplete} в потоке JavaFX.
      *
@@ -143,17 +148,6 @@ public class GoblinFactory implements EntityFactory {
         });
     }
 
-    /**
-     * Создает {@link ImageView} для визуализации гоблина.
-     */
-    private ImageView createGoblinView(ImageView firstFrame) {
-        ImageView view = new ImageView(firstFrame.getImage());
-        view.setFitWidth(firstFrame.getFitWidth());
-        view.setFitHeight(firstFrame.getFitHeight());
-        view.setSmooth(true);
-        return view;
-    }
-
     /**
      * Добавляет хитбар для отображения здоровья сущности.
      *
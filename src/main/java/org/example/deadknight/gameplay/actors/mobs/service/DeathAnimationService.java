@@ -2,15 +2,15 @@ package org.example.deadknight.gameplay.actors.mobs.service;
 
 import com.almasb.fxgl.entity.Entity;
 import com.almasb.fxgl.dsl.FXGL;
-import javafx.scene.image.ImageView;
 import org.example.deadknight.gameplay.actors.mobs.components.AnimationComponent;
 import org.example.deadknight.gameplay.actors.mobs.components.DeathAnimationComponent;
 import org.example.deadknight.gameplay.actors.mobs.entities.GoblinEntity;
+import org.example.deadknight.infrastructure.assets.AnimationClip;
 
 /**
  * Сервис для проигрывания анимации смерти сущности.
  * <p>
- * Отвечает за создание новой сущности с анимацией смерти и удаление оригинальной сущности.
+ * Отвечает за создание новой сущности с анимацией смерти и возврат оригинальной сущности в {@link GoblinPool}.
  * Использует {@link GoblinEntity} для получения кадров анимации и {@link AnimationComponent}
  * для определения направления взгляда (вправо или влево).
  */
@@ -34,11 +34,16 @@ public class DeathAnimationService {
         return deathPlayed;
     }
 
+    /** Сбрасывает флаг проигранной анимации, например при повторном использовании сущности из пула */
+    public void reset() {
+        deathPlayed = false;
+    }
+
     public void playDeathAnimation() {
         if (deathPlayed) return; // защита от повторного вызова
 
-        ImageView[] frames = goblinData.getDeathFrames();
-        if (frames == null || frames.length == 0) return;
+        AnimationClip frames = goblinData.getDeathFrames();
+        if (frames == null) return;
 
         boolean facingRight = animationComponent.isFacingRight();
 
@@ -48,7 +53,7 @@ public class DeathAnimationService {
                 .buildAndAttach()
                 .addComponent(new DeathAnimationComponent(frames, facingRight));
 
-        entity.removeFromWorld();
         deathPlayed = true; // помечаем, что анимация проиграна
+        GoblinPool.release(entity); // вместо удаления из мира — обратно в пул
     }
 }
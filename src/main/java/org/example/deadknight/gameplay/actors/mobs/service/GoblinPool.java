@@ -0,0 +1,127 @@
+package org.example.deadknight.gameplay.actors.mobs.service;
+
+import com.almasb.fxgl.dsl.FXGL;
+import com.almasb.fxgl.entity.Entity;
+import com.almasb.fxgl.entity.SpawnData;
+import com.almasb.fxgl.entity.components.CollidableComponent;
+import lombok.Getter;
+import org.example.deadknight.gameplay.actors.mobs.components.EnemyComponent;
+import org.example.deadknight.gameplay.actors.mobs.entities.types.EntityType;
+import org.example.deadknight.gameplay.combat.CombatSystem;
+import org.example.deadknight.gameplay.components.DamageableComponent;
+import org.example.deadknight.gameplay.components.HealthComponent;
+import org.example.deadknight.gameplay.components.PushComponent;
+
+import java.util.ArrayDeque;
+
+/**
+ * Пул сущностей гоблинов.
+ * <p>
+ * FXGL очищает сущность при удалении из мира, поэтому вернуть её обратно нельзя. Вместо удаления
+ * мёртвый гоблин остаётся в мире «спящим»:
+ * <ul>
+ *     <li>тип меняется на {@link EntityType#POOLED_MOB} — его не видят системы, ищущие {@link EntityType#HOSTILE_MOB};</li>
+ *     <li>{@link DamageableComponent} выключен, коллизии выключены;</li>
+ *     <li>сущность скрыта и не обновляется;</li>
+ *     <li>ещё не разрешённые события {@link CombatSystem} по нему отменены;</li>
+ *     <li>здоровье (а с ним и хитбар), таймеры врага, перезарядка атаки, отталкивание и анимация сброшены.</li>
+ * </ul>
+ * {@link #obtain(double, double)} будит такого гоблина на новом месте; новый создаётся через фабрику,
+ * только если пул пуст. После {@link #prewarm(int)} на экране загрузки волны спавнятся без выделения новых сущностей.
+ * <p>
+ * Работает только в FX-потоке.
+ */
+public final class GoblinPool {
+
+    /** Сколько гоблинов создаётся заранее: хватает на целую волну */
+    public static final int PREWARM_SIZE = 100;
+
+    /** Имя типа в фабрике FXGL */
+    private static final String SPAWN_NAME = "goblin";
+
+    private static final ArrayDeque<Entity> FREE = new ArrayDeque<>();
+
+    /** Сколько раз гоблин взят из пула */
+    @Getter
+    private static long reused;
+
+    /** Сколько гоблинов создано фабрикой */
+    @Getter
+    private static long created;
+
+    private GoblinPool() {}
+
+    /**
+     * Выдаёт гоблина в указанной позиции: из пула или, если пул пуст, новым спавном.
+     *
+     * @param x координата X
+     * @param y координата Y
+     * @return активный гоблин в игровом мире
+     */
+    public static Entity obtain(double x, double y) {
+        Entity goblin;
+        while ((goblin = FREE.pollLast()) != null) {
+            if (!goblin.isActive()) continue; // удалён из мира при очистке сцены — такой не вернуть
+            wake(goblin, x, y);
+            reused++;
+            return goblin;
+        }
+        created++;
+        return FXGL.spawn(SPAWN_NAME, new SpawnData(x, y));
+    }
+
+    /**
+     * Возвращает гоблина в пул вместо удаления из мира.
+     *
+     * @param goblin сущность гоблина
+     */
+    public static void release(Entity goblin) {
+        if (!goblin.isActive() || isPooled(goblin)) return;
+
+        CombatSystem.cancel(goblin); // урон, поставленный мёртвому гоблину, не должен попасть по нему после сброса
+        goblin.getComponent(HealthComponent.class).reset();
+        goblin.getComponent(PushComponent.class).reset();
+        goblin.getComponent(EnemyComponent.class).reset();
+
+        goblin.setType(EntityType.POOLED_MOB);
+        goblin.getComponent(DamageableComponent.class).setEnabled(false);
+        goblin.getComponent(CollidableComponent.class).setValue(false);
+        goblin.setVisible(false);
+        goblin.setUpdateEnabled(false);
+
+        FREE.addLast(goblin);
+    }
+
+    /**
+     * Заранее создаёт гоблинов и сразу кладёт их в пул.
+     *
+     * @param count сколько гоблинов должно лежать в пуле
+     */
+    public static void prewarm(int count) {
+        FREE.removeIf(goblin -> !goblin.isActive());
+        while (FREE.size() < count) {
+            created++;
+            release(FXGL.spawn(SPAWN_NAME, new SpawnData(0, 0)));
+        }
+    }
+
+    /** Лежит ли сущность в пуле */
+    public static boolean isPooled(Entity entity) {
+        return entity.isType(EntityType.POOLED_MOB);
+    }
+
+    /** Количество свободных гоблинов в пуле */
+    public static int size() {
+        return FREE.size();
+    }
+
+    /** Будит гоблина из пула в новой позиции */
+    private static void wake(Entity goblin, double x, double y) {
+        goblin.setPosition(x, y);
+        goblin.setType(EntityType.HOSTILE_MOB);
+        goblin.getComponent(DamageableComponent.class).setEnabled(true);
+        goblin.getComponent(CollidableComponent.class).setValue(true);
+        goblin.setVisible(true);
+        goblin.setUpdateEnabled(true);
+    }
+}
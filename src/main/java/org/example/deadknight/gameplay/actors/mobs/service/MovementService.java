@@ -3,6 +3,7 @@ package org.example.deadknight.gameplay.actors.mobs.service;
 import com.almasb.fxgl.entity.Entity;
 import javafx.geometry.Point2D;
 import org.example.deadknight.gameplay.actors.mobs.components.AnimationComponent;
+import org.example.deadknight.gameplay.systems.PlayerFlowField;
 
 /**
  * Сервис для управления перемещением сущности в игровом мире.
@@ -15,6 +16,9 @@ public class MovementService {
     private final double speed;
     private Point2D direction = Point2D.ZERO;
 
+    /** Буфер для направления из поля, чтобы не выделять массив каждый кадр */
+    private final double[] flowDirection = new double[2];
+
     public MovementService(Entity entity, double speed) {
         this.entity = entity;
         this.speed = speed;
@@ -24,6 +28,11 @@ public class MovementService {
         this.direction = dir.magnitude() > 0 ? dir.normalize() : Point2D.ZERO;
     }
 
+    /** Останавливает сущность */
+    public void stop() {
+        direction = Point2D.ZERO;
+    }
+
     public void update(double tpf) {
         if (direction.magnitude() == 0) return;
 
@@ -34,9 +43,37 @@ public class MovementService {
         entity.translate(direction.multiply(speed * tpf));
     }
 
+    /**
+     * Направляет сущность прямо на цель, не двигая её.
+     *
+     * @param target цель
+     */
+    public void aimAt(Entity target) {
+        setDirection(target.getCenter().subtract(entity.getCenter()));
+    }
+
+    /**
+     * Сдвигает сущность по текущему направлению без анимации — для далёких мобов,
+     * которых не видно на экране.
+     *
+     * @param tpf время кадра
+     */
+    public void coast(double tpf) {
+        if (direction == Point2D.ZERO) return;
+        entity.translate(direction.getX() * speed * tpf, direction.getY() * speed * tpf);
+    }
+
+    /**
+     * Двигает сущность к цели. Если до цели построено общее поле направлений
+     * ({@link PlayerFlowField}), направление берётся из него — в обход препятствий,
+     * иначе сущность идёт к цели по прямой.
+     */
     public void moveToTarget(Entity target, double tpf) {
-        Point2D dir = target.getCenter().subtract(entity.getCenter());
-        setDirection(dir);
+        if (PlayerFlowField.steer(entity, target, flowDirection)) {
+            setDirection(new Point2D(flowDirection[0], flowDirection[1]));
+        } else {
+            setDirection(target.getCenter().subtract(entity.getCenter()));
+        }
         update(tpf);
     }
 }
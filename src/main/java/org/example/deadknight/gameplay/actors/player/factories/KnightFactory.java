@@ -9,7 +9,9 @@ import org.example.deadknight.gameplay.actors.player.dialog.DialogueSequenceComp
 import org.example.deadknight.gameplay.actors.player.dialog.PlayerDialogueComponent;
 import org.example.deadknight.gameplay.actors.player.entities.KnightEntity;
 import org.example.deadknight.gameplay.actors.player.services.AnimationService;
+import org.example.deadknight.gameplay.actors.player.services.WaveService;
 import org.example.deadknight.gameplay.actors.player.entities.types.EntityType;
+import org.example.deadknight.gameplay.combat.AttackSpec;
 import org.example.deadknight.gameplay.components.DialogueComponent;
 import org.example.deadknight.gameplay.components.debug.KnightDebugHitBoxComponent;
 import org.example.deadknight.gameplay.components.SeparationComponent;
@@ -70,6 +72,8 @@ public class KnightFactory {
         knight.getProperties().setValue("direction", knightData.getDirection());
         knight.getProperties().setValue("spriteDir", knightData.getDirection());
         knight.getProperties().setValue("shootDir", knightData.getDirection());
+        // Текущая атака: другую волну или взмах можно выдать, заменив запись
+        knight.getProperties().setValue(WaveService.ATTACK_PROPERTY, AttackSpec.WAVE);
 //        // Подключаем анимацию ходьбы
 //        String[] frames = {
 //                "knight/knight_left-1.png",
@@ -2,16 +2,33 @@ package org.example.deadknight.gameplay.actors.player.services;
 
 import com.almasb.fxgl.dsl.FXGL;
 import com.almasb.fxgl.entity.Entity;
+import javafx.geometry.Point2D;
 import javafx.scene.image.ImageView;
 import javafx.util.Duration;
+import org.example.deadknight.gameplay.components.DamageableComponent;
+import org.example.deadknight.gameplay.components.types.Faction;
+import org.example.deadknight.gameplay.systems.SweptCollision;
+
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  * Сервис для управления атакой пантеры.
  * <p>
  * Отвечает за анимацию атаки, рывок и последующее возвращение к обычному спрайту.
+ * <p>
+ * Рывок идёт скачками по таймеру, поэтому попадания проверяются на всём отрезке каждого скачка
+ * ({@link SweptCollision}): пантера бьёт каждого гоблина на пути один раз за рывок, как бы далеко она ни прыгала.
+ * Задеваются только монстры ({@link Faction#MONSTER}); нейтральные цели вроде колючек рывок пропускает.
  */
 public class PantherAttackService {
 
+    /** Урон рывка по каждой задетой цели (как у волны рыцаря) */
+    private static final int DASH_DAMAGE = 20;
+
+    /** Буфер целей одного скачка */
+    private static final DamageableComponent[] HITS = new DamageableComponent[128];
+
     /**
      * Выполняет атаку пантеры с анимацией и рывком.
      *
@@ -33,8 +50,9 @@ public class PantherAttackService {
 
         // Рывок: перемещаем пантеру по X
         double dx = "RIGHT".equals(spriteDir) ? dashDistance : -dashDistance;
+        Set<DamageableComponent> alreadyHit = new HashSet<>();
         FXGL.getGameTimer().runAtInterval(
-                () -> panther.setX(panther.getX() + dx),
+                () -> dashStep(panther, dx, alreadyHit),
                 Duration.seconds(0.02),
                 (int) (10 * durationSeconds)
         );
@@ -42,4 +60,25 @@ public class PantherAttackService {
         // Устанавливает задержку между атаками персонажа.
         AnimationService.setAttackCooldown(panther, durationSeconds);
     }
+
+    /**
+     * Один скачок рывка: бьёт цели на отрезке скачка и переносит пантеру.
+     *
+     * @param panther    объект пантеры
+     * @param dx         смещение скачка по X
+     * @param alreadyHit цели, уже задетые этим рывком
+     */
+    private static void dashStep(Entity panther, double dx, Set<DamageableComponent> alreadyHit) {
+        if (!panther.isActive()) return;
+
+        int hits = SweptCollision.allHits(panther, dx, 0, Faction.PLAYER, HITS);
+        Point2D direction = new Point2D(Math.signum(dx), 0);
+        for (int i = 0; i < hits; i++) {
+            DamageableComponent target = HITS[i];
+            HITS[i] = null;
+            if (target.getFaction() != Faction.MONSTER) continue; // колючки и прочий нейтральный мир рывок не ломает
+            if (alreadyHit.add(target)) target.applyHit(DASH_DAMAGE, direction);
+        }
+        panther.setX(panther.getX() + dx);
+    }
 }
@@ -6,8 +6,13 @@ import com.almasb.fxgl.physics.HitBox;
 import com.almasb.fxgl.texture.Texture;
 import javafx.geometry.Point2D;
 import javafx.util.Duration;
+import org.example.deadknight.gameplay.combat.AttackEngine;
+import org.example.deadknight.gameplay.combat.AttackSpec;
 import org.example.deadknight.gameplay.components.WaveComponent;
 import org.example.deadknight.gameplay.components.debug.DebugHitBoxComponent;
+import org.example.deadknight.gameplay.components.types.Faction;
+
+import java.util.HashSet;
 
 import static com.almasb.fxgl.dsl.FXGL.*;
 
@@ -16,9 +21,31 @@ import static com.almasb.fxgl.dsl.FXGL.*;
  * <p>
  * Обеспечивает создание визуальной сущности волны, её хитбокса и направления движения.
  * Поддерживает четыре направления: UP, DOWN, LEFT, RIGHT.
+ * <p>
+ * Вид атаки задаётся записью {@link AttackSpec} в свойстве {@value #ATTACK_PROPERTY} стрелка
+ * (по умолчанию — {@link AttackSpec#WAVE}): снаряд выпускает волну с {@link WaveComponent},
+ * взмах в конусе бьёт сразу через {@link AttackEngine#cone}.
  */
 public class WaveService {
 
+    /** Свойство сущности с текущей атакой ({@link AttackSpec}) */
+    public static final String ATTACK_PROPERTY = "attackSpec";
+
+    /** Сколько показывается спрайт взмаха в конусе */
+    private static final Duration CONE_VIEW_DURATION = Duration.seconds(0.15);
+
+    /**
+     * Выполняет текущую атаку стрелка из свойства {@value #ATTACK_PROPERTY}.
+     *
+     * @param shooter сущность, от которой выпускается волна
+     */
+    public static void shoot(Entity shooter) {
+        if (shooter == null) return;
+
+        AttackSpec spec = shooter.getProperties().<AttackSpec>getValueOptional(ATTACK_PROPERTY).orElse(AttackSpec.WAVE);
+        shoot(shooter, spec);
+    }
+
     /**
      * Создает и выпускает волну от указанного стрелка.
      * <p>
@@ -26,15 +53,31 @@ public class WaveService {
      * размер хитбокса и вектор движения.
      *
      * @param shooter сущность, от которой выпускается волна
+     * @param spec    описание атаки
      */
-    public static void shoot(Entity shooter) {
+    public static void shoot(Entity shooter, AttackSpec spec) {
         if (shooter == null) return;
 
         String dir = shooter.getProperties().getValue("direction");
         Point2D vector = getDirectionVector(dir);
-        double[] size = getWaveSize(dir);
         Texture waveTex = prepareTexture(dir);
 
+        if (!spec.isProjectile()) {
+            AttackEngine.cone(shooter, vector, spec, Faction.PLAYER, new HashSet<>());
+
+            // короткая вспышка волны перед стрелком вместо летящего снаряда
+            Entity view = entityBuilder()
+                    .at(shooter.getCenter().getX() - 32 + vector.getX() * 32,
+                            shooter.getCenter().getY() - 32 + vector.getY() * 32)
+                    .view(waveTex)
+                    .buildAndAttach();
+            runOnce(() -> {
+                if (view.isActive()) view.removeFromWorld();
+            }, CONE_VIEW_DURATION);
+            return;
+        }
+
+        double[] size = getWaveSize(dir);
         double[] offsets = getOffsets(size[0], size[1]);
 
         Entity wave = entityBuilder()
@@ -43,13 +86,13 @@ public class WaveService {
                 .bbox(new HitBox("BODY",
                         new Point2D(offsets[0], offsets[1]),
                         BoundingShape.box(size[0], size[1])))
-                .with(new WaveComponent(vector))
+                .with(new WaveComponent(vector, spec))
                 .with(new DebugHitBoxComponent())
                 .buildAndAttach();
 
         runOnce(() -> {
             if (wave.isActive()) wave.removeFromWorld();
-        }, Duration.seconds(1));
+        }, Duration.seconds(spec.lifetimeSeconds()));
     }
 
     /**
@@ -1,14 +1,14 @@
 package org.example.deadknight.gameplay.actors.player.systems;
 
 import com.almasb.fxgl.entity.Entity;
-import org.example.deadknight.gameplay.components.HealthComponent;
+import org.example.deadknight.gameplay.combat.CombatSystem;
 import org.example.deadknight.gameplay.actors.mobs.entities.types.EntityType;
 
 /**
  * Система обработки столкновений.
  * <p>
  * Отвечает за проверку столкновений игрока (рыцаря) с опасными объектами,
- * такими как шипы, и за нанесение урона с учётом кулдауна.
+ * такими как шипы, и за отправку урона в {@link CombatSystem} с учётом кулдауна.
  */
 public class CollisionSystem {
 
@@ -19,8 +19,8 @@ public class CollisionSystem {
      * Обновляет состояние столкновений на каждом кадре.
      * <p>
      * Проверяет, сталкивается ли рыцарь с объектами типа {@link EntityType#SPIKES}.
-     * Если столкновение произошло и кулдаун урона истёк, наносит урон рыцарю.
-     * Если здоровье рыцаря падает до нуля или ниже, удаляет его из мира.
+     * Если столкновение произошло и кулдаун урона истёк, ставит урон рыцарю в очередь {@link CombatSystem};
+     * смерть рыцаря обрабатывает её слушатель.
      *
      * @param knight сущность рыцаря, которую контролирует игрок
      * @param tpf    время кадра (Time Per Frame) в секундах
@@ -32,13 +32,8 @@ public class CollisionSystem {
 
         for (Entity spike : knight.getWorld().getEntitiesByType(EntityType.SPIKES)) {
             if (knight.isColliding(spike) && damageCooldown <= 0) {
-                HealthComponent health = knight.getComponent(HealthComponent.class);
-                health.takeDamage(10);
+                CombatSystem.damage(knight, 10);
                 damageCooldown = 1.0;
-
-                if (health.getValue() <= 0) {
-                    knight.removeFromWorld();
-                }
             }
         }
     }
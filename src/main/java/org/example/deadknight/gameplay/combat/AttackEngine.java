@@ -0,0 +1,197 @@
+package org.example.deadknight.gameplay.combat;
+
+import com.almasb.fxgl.entity.Entity;
+import com.almasb.fxgl.entity.components.BoundingBoxComponent;
+import javafx.geometry.Point2D;
+import org.example.deadknight.gameplay.components.DamageableComponent;
+import org.example.deadknight.gameplay.components.types.Faction;
+import org.example.deadknight.gameplay.systems.DamageableIndex;
+import org.example.deadknight.gameplay.systems.SpatialGrid;
+
+import java.util.Set;
+
+/**
+ * Исполнение атак по {@link AttackSpec}: взмах в конусе, взрыв в точке попадания и цепной перескок.
+ *
+ * <p>Все цели ищутся в {@link DamageableIndex}: взмах или взрыв — это один запрос к сетке по радиусу
+ * и точная проверка найденных кандидатов по текущему хитбоксу, сколько бы мобов ни попало под удар.
+ * Урон ставится в очередь {@link CombatSystem} через {@link DamageableComponent#applyHit}.
+ *
+ * <p>Каждая цель получает урон от одной атаки не больше одного раза: уже задетые цели копятся
+ * в множестве, которое передаёт вызывающий (для волны — одно на всё её время жизни).
+ * Работает только в FX-потоке.
+ */
+public final class AttackEngine {
+
+    /** Общий буфер кандидатов широкой фазы; растёт, если запрос его заполнил */
+    private static int[] candidates = new int[1024];
+
+    private AttackEngine() {}
+
+    /**
+     * Бьёт всех чужих в конусе перед атакующим.
+     *
+     * @param attacker  атакующая сущность (вершина конуса — центр её хитбокса)
+     * @param direction направление взмаха (единичный вектор)
+     * @param spec      атака с {@code coneRange} и {@code coneAngleDegrees}
+     * @param faction   сторона атакующего
+     * @param hit       уже задетые цели; пополняется
+     * @return сколько целей задето
+     */
+    public static int cone(Entity attacker, Point2D direction, AttackSpec spec, Faction faction,
+                           Set<DamageableComponent> hit) {
+        BoundingBoxComponent box = attacker.getBoundingBoxComponent();
+        double ox = (box.getMinXWorld() + box.getMaxXWorld()) / 2;
+        double oy = (box.getMinYWorld() + box.getMaxYWorld()) / 2;
+        double range = spec.coneRange();
+        double cosHalf = Math.cos(Math.toRadians(spec.coneAngleDegrees() / 2));
+
+        SpatialGrid grid = DamageableIndex.getGrid();
+        int found = query(ox, oy, range);
+
+        int hits = 0;
+        for (int k = 0; k < found; k++) {
+            int i = candidates[k];
+            DamageableComponent target = candidate(i, faction, hit);
+            if (target == null) continue;
+
+            BoundingBoxComponent t = grid.getEntity(i).getBoundingBoxComponent();
+            if (distanceToBox(ox, oy, t) > range) continue;
+
+            // угол считаем по центру цели: крупная цель у края конуса задевается, если её центр внутри
+            double vx = (t.getMinXWorld() + t.getMaxXWorld()) / 2 - ox;
+            double vy = (t.getMinYWorld() + t.getMaxYWorld()) / 2 - oy;
+            double length = Math.sqrt(vx * vx + vy * vy);
+            if (length > 0 && vx * direction.getX() + vy * direction.getY() < cosHalf * length) continue;
+
+            hit.add(target);
+            target.applyHit(spec.damage(), length > 0 ? new Point2D(vx / length, vy / length) : direction);
+            hits++;
+        }
+        return hits;
+    }
+
+    /**
+     * Попадание снаряда: урон по цели, затем взрыв и цепь, если они есть в атаке.
+     *
+     * @param target    цель, в которую попал снаряд
+     * @param direction направление полёта снаряда (единичный вектор)
+     * @param spec      атака
+     * @param faction   сторона атакующего
+     * @param hit       уже задетые цели; пополняется
+     */
+    public static void impact(DamageableComponent target, Point2D direction, AttackSpec spec, Faction faction,
+                              Set<DamageableComponent> hit) {
+        hit.add(target);
+        target.applyHit(spec.damage(), direction);
+
+        if (spec.aoeRadius() > 0 || spec.chainCount() > 0) {
+            BoundingBoxComponent box = target.getEntity().getBoundingBoxComponent();
+            double x = (box.getMinXWorld() + box.getMaxXWorld()) / 2;
+            double y = (box.getMinYWorld() + box.getMaxYWorld()) / 2;
+            if (spec.aoeRadius() > 0) area(x, y, spec, faction, hit);
+            if (spec.chainCount() > 0) chain(x, y, spec, faction, hit);
+        }
+    }
+
+    /**
+     * Взрыв: урон всем чужим, чей хитбокс пересекает круг. Один запрос к сетке.
+     * Цели отталкиваются от центра взрыва.
+     */
+    private static void area(double x, double y, AttackSpec spec, Faction faction, Set<DamageableComponent> hit) {
+        SpatialGrid grid = DamageableIndex.getGrid();
+        int found = query(x, y, spec.aoeRadius());
+
+        for (int k = 0; k < found; k++) {
+            int i = candidates[k];
+            DamageableComponent target = candidate(i, faction, hit);
+            if (target == null) continue;
+
+            BoundingBoxComponent t = grid.getEntity(i).getBoundingBoxComponent();
+            if (distanceToBox(x, y, t) > spec.aoeRadius()) continue;
+
+            hit.add(target);
+            target.applyHit(spec.damage(), awayFrom(x, y, t));
+        }
+    }
+
+    /**
+     * Цепь: удар перескакивает на ближайшую ещё не задетую цель в пределах {@code chainRange},
+     * от неё — на следующую, до {@code chainCount} раз. Один запрос к сетке на перескок.
+     */
+    private static void chain(double x, double y, AttackSpec spec, Faction faction, Set<DamageableComponent> hit) {
+        SpatialGrid grid = DamageableIndex.getGrid();
+        double rangeSq = spec.chainRange() * spec.chainRange();
+
+        for (int jump = 0; jump < spec.chainCount(); jump++) {
+            int found = query(x, y, spec.chainRange());
+
+            DamageableComponent next = null;
+            double nextX = 0;
+            double nextY = 0;
+            double bestSq = rangeSq;
+            for (int k = 0; k < found; k++) {
+                int i = candidates[k];
+                DamageableComponent target = candidate(i, faction, hit);
+                if (target == null) continue;
+
+                BoundingBoxComponent t = grid.getEntity(i).getBoundingBoxComponent();
+                double cx = (t.getMinXWorld() + t.getMaxXWorld()) / 2;
+                double cy = (t.getMinYWorld() + t.getMaxYWorld()) / 2;
+                double distSq = (cx - x) * (cx - x) + (cy - y) * (cy - y);
+                if (distSq <= bestSq) {
+                    next = target;
+                    nextX = cx;
+                    nextY = cy;
+                    bestSq = distSq;
+                }
+            }
+            if (next == null) return; // рядом больше некого бить
+
+            double length = Math.sqrt(bestSq);
+            Point2D direction = length > 0 ? new Point2D((nextX - x) / length, (nextY - y) / length) : Point2D.ZERO;
+            hit.add(next);
+            next.applyHit(spec.damage(), direction);
+            x = nextX;
+            y = nextY;
+        }
+    }
+
+    /**
+     * Запрос к {@link DamageableIndex} с запасом {@link DamageableIndex#QUERY_MARGIN}.
+     * Если буфер заполнен целиком, часть кандидатов могла не поместиться: буфер удваивается и запрос повторяется,
+     * так что в плотной орде удар задевает всех, а не первые 1024 цели.
+     *
+     * @return количество кандидатов в {@link #candidates}
+     */
+    private static int query(double x, double y, double radius) {
+        SpatialGrid grid = DamageableIndex.getGrid();
+        int found;
+        while ((found = grid.query(x, y, radius + DamageableIndex.QUERY_MARGIN, candidates)) == candidates.length) {
+            candidates = new int[candidates.length * 2];
+        }
+        return found;
+    }
+
+    /** Компонент кандидата из сетки, если его можно ударить, иначе {@code null} */
+    private static DamageableComponent candidate(int index, Faction faction, Set<DamageableComponent> hit) {
+        DamageableComponent target = DamageableIndex.getDamageable(index);
+        if (target == null || !target.canBeHitBy(faction) || hit.contains(target)) return null;
+        return DamageableIndex.getGrid().getEntity(index).isActive() ? target : null;
+    }
+
+    /** Расстояние от точки до ближайшей точки хитбокса ({@code 0}, если точка внутри) */
+    private static double distanceToBox(double x, double y, BoundingBoxComponent box) {
+        double dx = Math.max(Math.max(box.getMinXWorld() - x, 0), x - box.getMaxXWorld());
+        double dy = Math.max(Math.max(box.getMinYWorld() - y, 0), y - box.getMaxYWorld());
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+
+    /** Единичный вектор от точки к центру хитбокса ({@link Point2D#ZERO}, если они совпадают) */
+    private static Point2D awayFrom(double x, double y, BoundingBoxComponent box) {
+        double vx = (box.getMinXWorld() + box.getMaxXWorld()) / 2 - x;
+        double vy = (box.getMinYWorld() + box.getMaxYWorld()) / 2 - y;
+        double length = Math.sqrt(vx * vx + vy * vy);
+        return length > 0 ? new Point2D(vx / length, vy / length) : Point2D.ZERO;
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.deadknight.gameplay.combat;
+
+/**
+ * Описание атаки игрока: чистые данные, по которым {@link AttackEngine} и {@code WaveComponent}
+ * решают, кого и как задеть.
+ * <p>
+ * Новое умение — это новая запись, а не новый класс компонента. Атака бывает двух видов:
+ * <ul>
+ *     <li>снаряд ({@link #isProjectile()}): волна летит со скоростью {@code speed}, пробивает до {@code pierce}
+ *     целей, при каждом попадании может взорваться ({@code aoeRadius}) и перескочить на соседей ({@code chainCount});</li>
+ *     <li>взмах в конусе ({@code coneRange} > 0): мгновенный удар по всем целям в секторе перед атакующим.</li>
+ * </ul>
+ *
+ * @param name             имя атаки (для логов и отладки)
+ * @param damage           урон каждого попадания до брони
+ * @param speed            скорость снаряда в пикселях в секунду
+ * @param lifetimeSeconds  время жизни снаряда в секундах
+ * @param pierce           сколько целей снаряд пробивает насквозь ({@code 0} — исчезает на первой)
+ * @param aoeRadius        радиус взрыва в точке попадания ({@code 0} — без взрыва)
+ * @param coneRange        дальность взмаха в конусе ({@code 0} — атака снарядом)
+ * @param coneAngleDegrees полный угол конуса в градусах
+ * @param chainCount       сколько раз удар перескакивает на ближайшую непоражённую цель ({@code 0} — без цепи)
+ * @param chainRange       дальность одного перескока
+ */
+public record AttackSpec(String name, int damage, double speed, double lifetimeSeconds, int pierce,
+                         double aoeRadius, double coneRange, double coneAngleDegrees,
+                         int chainCount, double chainRange) {
+
+    /** Обычная волна рыцаря: одна цель, исчезает при попадании */
+    public static final AttackSpec WAVE = new AttackSpec("wave", 20, 500, 1, 0, 0, 0, 0, 0, 0);
+
+    /** Пробивающая волна: проходит сквозь пять целей */
+    public static final AttackSpec PIERCING_WAVE = new AttackSpec("piercing_wave", 20, 500, 1, 5, 0, 0, 0, 0, 0);
+
+    /** Ударная волна: взрывается в точке попадания и задевает всех вокруг */
+    public static final AttackSpec SHOCKWAVE = new AttackSpec("shockwave", 15, 400, 1, 0, 96, 0, 0, 0, 0);
+
+    /** Цепная волна: после попадания перескакивает ещё на три цели */
+    public static final AttackSpec CHAIN_WAVE = new AttackSpec("chain_wave", 15, 500, 1, 0, 0, 0, 0, 3, 200);
+
+    /** Круговой взмах мечом перед рыцарем */
+    public static final AttackSpec CLEAVE = new AttackSpec("cleave", 25, 0, 0, 0, 0, 160, 120, 0, 0);
+
+    public AttackSpec {
+        if (damage < 0) throw new IllegalArgumentException("Урон атаки не может быть отрицательным: " + name);
+        if (pierce < 0 || chainCount < 0) {
+            throw new IllegalArgumentException("Пробитие и цепь не могут быть отрицательными: " + name);
+        }
+        if (coneRange <= 0 && (speed <= 0 || lifetimeSeconds <= 0)) {
+            throw new IllegalArgumentException("У снаряда должны быть скорость и время жизни: " + name);
+        }
+        if (coneRange > 0 && (coneAngleDegrees <= 0 || coneAngleDegrees > 360)) {
+            throw new IllegalArgumentException("Угол конуса должен быть в (0, 360]: " + name);
+        }
+    }
+
+    /** Атака снарядом (волной), а не мгновенным взмахом */
+    public boolean isProjectile() {
+        return coneRange <= 0;
+    }
+}
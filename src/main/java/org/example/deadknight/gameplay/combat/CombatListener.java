@@ -0,0 +1,35 @@
+package org.example.deadknight.gameplay.combat;
+
+import com.almasb.fxgl.entity.Entity;
+
+/**
+ * Слушатель итогов боя, которые {@link CombatSystem} рассылает после применения очереди событий кадра.
+ * <p>
+ * Вызывается в FX-потоке, когда здоровье всех целей кадра уже изменено. Новые события, отправленные
+ * из слушателя, попадают в очередь следующего кадра.
+ */
+public interface CombatListener {
+
+    /**
+     * Цель получила урон.
+     *
+     * @param target сущность-цель
+     * @param amount нанесённый урон
+     */
+    default void onDamage(Entity target, int amount) {}
+
+    /**
+     * Цель вылечена.
+     *
+     * @param target сущность-цель
+     * @param amount восстановленное здоровье
+     */
+    default void onHeal(Entity target, int amount) {}
+
+    /**
+     * Здоровье цели опустилось до нуля в этом кадре. Вызывается один раз на смерть.
+     *
+     * @param target погибшая сущность
+     */
+    default void onDeath(Entity target) {}
+}
@@ -0,0 +1,277 @@
+package org.example.deadknight.gameplay.combat;
+
+import com.almasb.fxgl.entity.Entity;
+import javafx.geometry.Point2D;
+import lombok.Getter;
+import org.example.deadknight.gameplay.actors.mobs.service.GoblinPool;
+import org.example.deadknight.gameplay.combat.types.CombatEventType;
+import org.example.deadknight.gameplay.components.HealthComponent;
+import org.example.deadknight.gameplay.components.PushComponent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Централизованное разрешение боя.
+ *
+ * <p>Источники урона и лечения (атаки мобов, волны, рывок, колючки, эссенции) не меняют здоровье сами,
+ * а кладут событие в кольцевой буфер через {@link #damage} / {@link #heal}. Раз в кадр
+ * {@link #resolve()} пакетом:
+ * <ol>
+ *     <li>применяет урон, лечение и отталкивание;</li>
+ *     <li>определяет цели, погибшие в этом кадре (ровно один раз на смерть);</li>
+ *     <li>рассылает итоги {@link CombatListener}: урон, лечение, затем смерти (лут, UI, диалоги).</li>
+ * </ol>
+ * Так побочные эффекты (удаление сущностей, дроп, Game Over) не срабатывают посреди чужого обновления,
+ * а стоимость боя за кадр видна в {@link #getLastResolveNanos()}.
+ *
+ * <p>События кладутся в буфер в порядке поступления; если буфер полон, он расширяется.
+ * События, отправленные во время рассылки, разрешаются в следующем кадре. События целей, которые к моменту
+ * разрешения удалены из мира или ушли в пул гоблинов, отбрасываются: урон, поставленный мёртвому гоблину,
+ * не должен попасть по нему же после сброса здоровья в пуле. Работает только в FX-потоке.
+ */
+public final class CombatSystem {
+
+    /** Начальная ёмкость буфера событий (степень двойки) */
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private static final List<CombatListener> LISTENERS = new ArrayList<>();
+
+    /** Кольцевой буфер событий: параллельные массивы */
+    private static CombatEventType[] types = new CombatEventType[INITIAL_CAPACITY];
+    private static Entity[] targets = new Entity[INITIAL_CAPACITY];
+    private static HealthComponent[] healths = new HealthComponent[INITIAL_CAPACITY];
+    private static PushComponent[] pushes = new PushComponent[INITIAL_CAPACITY];
+    private static int[] amounts = new int[INITIAL_CAPACITY];
+    private static double[] pushXs = new double[INITIAL_CAPACITY];
+    private static double[] pushYs = new double[INITIAL_CAPACITY];
+
+    /** Флаг «цель погибла от этого события» для рассылки смертей */
+    private static boolean[] killed = new boolean[INITIAL_CAPACITY];
+
+    private static int head;
+    private static int count;
+
+    /** Сколько событий разрешено в последнем кадре */
+    @Getter
+    private static int lastEventCount;
+
+    /** Время последнего {@link #resolve()} в наносекундах */
+    @Getter
+    private static long lastResolveNanos;
+
+    private CombatSystem() {}
+
+    /**
+     * Ставит в очередь урон без отталкивания.
+     *
+     * @param target сущность с {@link HealthComponent}
+     * @param amount урон
+     */
+    public static void damage(Entity target, int amount) {
+        HealthComponent health = target.getComponentOptional(HealthComponent.class).orElse(null);
+        if (health == null) return;
+        damage(target, health, null, amount, Point2D.ZERO);
+    }
+
+    /**
+     * Ставит в очередь урон с отталкиванием.
+     * Компоненты передаются готовыми, чтобы путь попадания не искал их у сущности.
+     *
+     * @param target  сущность-цель
+     * @param health  здоровье цели
+     * @param push    отталкивание цели или {@code null}
+     * @param amount  урон
+     * @param impulse импульс отталкивания
+     */
+    public static void damage(Entity target, HealthComponent health, PushComponent push, int amount, Point2D impulse) {
+        int i = slot();
+        types[i] = CombatEventType.DAMAGE;
+        targets[i] = target;
+        healths[i] = health;
+        pushes[i] = push;
+        amounts[i] = amount;
+        pushXs[i] = impulse.getX();
+        pushYs[i] = impulse.getY();
+    }
+
+    /**
+     * Ставит в очередь лечение.
+     *
+     * @param target сущность с {@link HealthComponent}
+     * @param amount сколько здоровья восстановить
+     */
+    public static void heal(Entity target, int amount) {
+        HealthComponent health = target.getComponentOptional(HealthComponent.class).orElse(null);
+        if (health == null) return;
+
+        int i = slot();
+        types[i] = CombatEventType.HEAL;
+        targets[i] = target;
+        healths[i] = health;
+        pushes[i] = null;
+        amounts[i] = amount;
+        pushXs[i] = 0;
+        pushYs[i] = 0;
+    }
+
+    /**
+     * Разрешает все события, накопленные к началу вызова. Вызывается раз в кадр.
+     */
+    public static void resolve() {
+        long start = System.nanoTime();
+        int n = count;
+
+        // применение: здоровье и отталкивание
+        for (int k = 0; k < n; k++) {
+            int i = index(k);
+            if (isStale(targets[i])) {
+                targets[i] = null; // цель ушла: событие отбрасывается целиком
+                amounts[i] = 0;
+                killed[i] = false;
+                continue;
+            }
+            HealthComponent health = healths[i];
+            boolean wasAlive = !health.isDead();
+
+            if (types[i] == CombatEventType.HEAL) {
+                int before = health.getValue();
+                if (wasAlive) health.heal(amounts[i]); // мёртвых не лечим
+                amounts[i] = health.getValue() - before;
+            } else {
+                if (wasAlive) health.takeDamage(amounts[i]);
+                else amounts[i] = 0;
+                if (pushes[i] != null && (pushXs[i] != 0 || pushYs[i] != 0)) {
+                    pushes[i].addImpulse(new Point2D(pushXs[i], pushYs[i]));
+                }
+            }
+            killed[i] = wasAlive && health.isDead();
+        }
+
+        // рассылка: сначала урон и лечение, потом смерти
+        for (int k = 0; k < n; k++) {
+            int i = index(k);
+            if (amounts[i] == 0 || targets[i] == null) continue;
+            for (CombatListener listener : LISTENERS) {
+                if (types[i] == CombatEventType.HEAL) listener.onHeal(targets[i], amounts[i]);
+                else listener.onDamage(targets[i], amounts[i]);
+            }
+        }
+        for (int k = 0; k < n; k++) {
+            int i = index(k);
+            if (!killed[i] || targets[i] == null) continue;
+            for (CombatListener listener : LISTENERS) {
+                listener.onDeath(targets[i]);
+            }
+        }
+
+        // освобождаем слоты (новые события из слушателей лежат дальше и останутся на следующий кадр)
+        for (int k = 0; k < n; k++) {
+            int i = index(k);
+            targets[i] = null;
+            healths[i] = null;
+            pushes[i] = null;
+        }
+        head = index(n);
+        count -= n;
+
+        lastEventCount = n;
+        lastResolveNanos = System.nanoTime() - start;
+    }
+
+    /**
+     * Подписывает слушателя на итоги боя.
+     *
+     * @param listener слушатель
+     */
+    public static void addListener(CombatListener listener) {
+        LISTENERS.add(listener);
+    }
+
+    /**
+     * Отменяет ещё не разрешённые события цели, например когда гоблин возвращается в пул.
+     *
+     * @param target сущность-цель
+     */
+    public static void cancel(Entity target) {
+        for (int k = 0; k < count; k++) {
+            int i = index(k);
+            if (targets[i] != target) continue;
+            targets[i] = null;
+            healths[i] = null;
+            pushes[i] = null;
+        }
+    }
+
+    /** Событий в очереди */
+    public static int getQueued() {
+        return count;
+    }
+
+    /** Очищает очередь и слушателей, например при перезапуске игры */
+    public static void clear() {
+        LISTENERS.clear();
+        Arrays.fill(targets, null);
+        Arrays.fill(healths, null);
+        Arrays.fill(pushes, null);
+        head = 0;
+        count = 0;
+    }
+
+    /** Цель события больше не та живая сущность, которой его отправили */
+    private static boolean isStale(Entity target) {
+        return target == null || !target.isActive() || GoblinPool.isPooled(target);
+    }
+
+    /** Выделяет слот в конце очереди, расширяя буфер при заполнении */
+    private static int slot() {
+        if (count == types.length) grow();
+        int i = index(count);
+        count++;
+        return i;
+    }
+
+    /**
+     * Слот {@code k}-го события от начала очереди. Вычисляется заново при каждом обращении:
+     * слушатель может расширить буфер посреди {@link #resolve()}, и тогда начало очереди переезжает.
+     */
+    private static int index(int k) {
+        return (head + k) & (types.length - 1);
+    }
+
+    /** Удваивает буфер, раскладывая события по порядку с начала */
+    private static void grow() {
+        int capacity = types.length * 2;
+        types = unroll(types, new CombatEventType[capacity]);
+        targets = unroll(targets, new Entity[capacity]);
+        healths = unroll(healths, new HealthComponent[capacity]);
+        pushes = unroll(pushes, new PushComponent[capacity]);
+
+        int[] newAmounts = new int[capacity];
+        double[] newPushXs = new double[capacity];
+        double[] newPushYs = new double[capacity];
+        boolean[] newKilled = new boolean[capacity];
+        int mask = amounts.length - 1;
+        for (int k = 0; k < count; k++) {
+            int i = (head + k) & mask;
+            newAmounts[k] = amounts[i];
+            newPushXs[k] = pushXs[i];
+            newPushYs[k] = pushYs[i];
+            newKilled[k] = killed[i];
+        }
+        amounts = newAmounts;
+        pushXs = newPushXs;
+        pushYs = newPushYs;
+        killed = newKilled;
+        head = 0;
+    }
+
+    private static <T> T[] unroll(T[] from, T[] to) {
+        int mask = from.length - 1;
+        for (int k = 0; k < count; k++) {
+            to[k] = from[(head + k) & mask];
+        }
+        return to;
+    }
+}
@@ -0,0 +1,38 @@
+package org.example.deadknight.gameplay.combat.listeners;
+
+import com.almasb.fxgl.entity.Entity;
+import org.example.deadknight.gameplay.actors.player.dialog.PlayerDialogueComponent;
+import org.example.deadknight.gameplay.combat.CombatListener;
+import org.example.deadknight.gameplay.components.DamageableComponent;
+import org.example.deadknight.gameplay.components.types.Faction;
+
+/**
+ * Запускает реплику игрока о первом убитом монстре ({@link PlayerDialogueComponent#onFirstKill()}).
+ * Срабатывает один раз за игру.
+ */
+public class FirstKillDialogueListener implements CombatListener {
+
+    private final Entity player;
+    private boolean done;
+
+    /**
+     * @param player сущность игрока (реплика показывается, только если у неё есть {@link PlayerDialogueComponent})
+     */
+    public FirstKillDialogueListener(Entity player) {
+        this.player = player;
+    }
+
+    @Override
+    public void onDeath(Entity target) {
+        if (done || !player.isActive()) return;
+
+        boolean monster = target.getComponentOptional(DamageableComponent.class)
+                .map(d -> d.getFaction() == Faction.MONSTER)
+                .orElse(false);
+        if (!monster) return;
+
+        done = true;
+        player.getComponentOptional(PlayerDialogueComponent.class)
+                .ifPresent(PlayerDialogueComponent::onFirstKill);
+    }
+}
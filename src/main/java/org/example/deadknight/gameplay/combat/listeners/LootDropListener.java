@@ -0,0 +1,17 @@
+package org.example.deadknight.gameplay.combat.listeners;
+
+import com.almasb.fxgl.entity.Entity;
+import org.example.deadknight.gameplay.actors.mobs.components.DropComponent;
+import org.example.deadknight.gameplay.combat.CombatListener;
+
+/**
+ * Выбрасывает дроп погибшей сущности, если у неё есть {@link DropComponent}.
+ */
+public class LootDropListener implements CombatListener {
+
+    @Override
+    public void onDeath(Entity target) {
+        target.getComponentOptional(DropComponent.class)
+                .ifPresent(drop -> drop.dropLoot(target.getPosition()));
+    }
+}
@@ -0,0 +1,34 @@
+package org.example.deadknight.gameplay.combat.listeners;
+
+import com.almasb.fxgl.entity.Entity;
+import org.example.deadknight.gameplay.actors.player.services.ui.UIService;
+import org.example.deadknight.gameplay.combat.CombatListener;
+
+/**
+ * Обрабатывает смерть игрока: убирает его из мира и показывает экран Game Over.
+ */
+public class PlayerDeathListener implements CombatListener {
+
+    private final Entity player;
+    private final UIService uiService;
+    private final Runnable onRestart;
+
+    /**
+     * @param player    сущность игрока
+     * @param uiService сервис UI с экраном Game Over
+     * @param onRestart действие перезапуска игры
+     */
+    public PlayerDeathListener(Entity player, UIService uiService, Runnable onRestart) {
+        this.player = player;
+        this.uiService = uiService;
+        this.onRestart = onRestart;
+    }
+
+    @Override
+    public void onDeath(Entity target) {
+        if (target != player) return;
+
+        player.removeFromWorld();
+        uiService.checkGameOver(player, onRestart);
+    }
+}
@@ -0,0 +1,13 @@
+package org.example.deadknight.gameplay.combat.types;
+
+/**
+ * Тип события в очереди {@code CombatSystem}.
+ */
+public enum CombatEventType {
+
+    /** Урон (с возможным отталкиванием) */
+    DAMAGE,
+
+    /** Лечение, не выше максимального здоровья */
+    HEAL
+}
@@ -0,0 +1,82 @@
+package org.example.deadknight.gameplay.components;
+
+import com.almasb.fxgl.entity.component.Component;
+import javafx.geometry.Point2D;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import org.example.deadknight.gameplay.combat.CombatSystem;
+import org.example.deadknight.gameplay.components.types.Faction;
+
+/**
+ * Компонент цели атак: может ли сущность сейчас получать урон, её броня, сила отталкивания и сторона.
+ * <p>
+ * Заменяет свойства {@code "canTakeDamage"} и {@code "wavePushStrength"} в {@code PropertyMap}:
+ * путь попадания читает обычные поля, без строковых ключей, {@code Optional} и упаковки чисел.
+ * Ссылки на {@link HealthComponent} и {@link PushComponent} берутся один раз при добавлении к сущности,
+ * поэтому компонент добавляется после них.
+ */
+@Getter
+@Setter
+public class DamageableComponent extends Component {
+
+    /** Сторона сущности */
+    private Faction faction;
+
+    /** Броня: вычитается из урона каждого попадания */
+    private int armor;
+
+    /** Сила отталкивания при попадании (скорость в px/с, добавляемая по направлению удара) */
+    private double pushStrength;
+
+    /** Может ли сущность сейчас получать урон (например, {@code false} у гоблина в пуле) */
+    private boolean enabled = true;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private HealthComponent health;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private PushComponent push;
+
+    /**
+     * @param faction      сторона сущности
+     * @param armor        броня
+     * @param pushStrength сила отталкивания при попадании
+     */
+    public DamageableComponent(Faction faction, int armor, double pushStrength) {
+        this.faction = faction;
+        this.armor = armor;
+        this.pushStrength = pushStrength;
+    }
+
+    @Override
+    public void onAdded() {
+        health = entity.getComponentOptional(HealthComponent.class).orElse(null);
+        push = entity.getComponentOptional(PushComponent.class).orElse(null);
+    }
+
+    /**
+     * Может ли атака стороны {@code attacker} задеть сущность.
+     *
+     * @param attacker сторона атакующего
+     * @return {@code true}, если урон включён и стороны разные
+     */
+    public boolean canBeHitBy(Faction attacker) {
+        return enabled && faction != attacker;
+    }
+
+    /**
+     * Ставит в очередь {@link CombatSystem} урон с учётом брони и отталкивание сущности.
+     * Выключенная цель урон не получает.
+     *
+     * @param damage    урон до брони
+     * @param direction направление удара (единичный вектор)
+     */
+    public void applyHit(int damage, Point2D direction) {
+        if (health == null || !enabled) return;
+        Point2D impulse = push != null && pushStrength > 0 ? direction.multiply(pushStrength) : Point2D.ZERO;
+        CombatSystem.damage(entity, health, push, Math.max(0, damage - armor), impulse);
+    }
+}
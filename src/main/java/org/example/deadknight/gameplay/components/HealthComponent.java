@@ -73,6 +73,11 @@ public class HealthComponent extends Component {
         return value.get() <= 0;
     }
 
+    /** Восстанавливает здоровье до максимума, например при повторном использовании сущности из пула */
+    public void reset() {
+        value.set(maxValue);
+    }
+
     public void heal(int amount) {
         int newValue = value.get() + amount;
         if (newValue > maxValue) {
@@ -22,6 +22,16 @@ public class PushComponent extends Component {
         this.velocity = this.velocity.add(impulse);
     }
 
+    /** Текущая скорость отталкивания */
+    public Point2D getVelocity() {
+        return velocity;
+    }
+
+    /** Сбрасывает накопленную скорость отталкивания */
+    public void reset() {
+        velocity = Point2D.ZERO;
+    }
+
     @Override
     public void onUpdate(double tpf) {
         if (velocity.magnitude() > 0.1) {
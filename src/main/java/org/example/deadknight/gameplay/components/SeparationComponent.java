@@ -1,17 +1,17 @@
 package org.example.deadknight.gameplay.components;
 
-import com.almasb.fxgl.dsl.FXGL;
 import com.almasb.fxgl.entity.component.Component;
-import javafx.geometry.Point2D;
-import org.example.deadknight.gameplay.actors.mobs.entities.types.EntityType;
+import lombok.Getter;
+import org.example.deadknight.gameplay.systems.SeparationSystem;
 
 /**
- * Компонент, реализующий "разделение" (Separation) для сущностей одного типа.
+ * Компонент, задающий параметры "разделения" (Separation) для сущности.
  * <p>
  * Используется, чтобы гоблины (или другие мобсы) не наслаивались друг на друга.
  * <p>
- * Каждое обновление {@link #onUpdate(double)} проверяет расстояние до всех других сущностей
- * указанного типа и отталкивает их друг от друга, если они находятся ближе {@code minDistance}.
+ * Сам компонент ничего не делает в кадре: все силы разделения считает пакетно
+ * {@link SeparationSystem}, один раз за кадр для всех сущностей сразу.
+ * Поэтому результат не зависит от порядка обновления сущностей.
  *
  * <p>Параметры:
  * <ul>
@@ -20,9 +20,10 @@ import org.example.deadknight.gameplay.actors.mobs.entities.types.EntityType;
  * </ul>
  *
  * <p>SRP (Single Responsibility Principle):
- * Этот компонент отвечает только за логику разделения сущностей и не вмешивается в движение к игроку,
+ * Этот компонент отвечает только за параметры разделения сущностей и не вмешивается в движение к игроку,
  * атаки или анимации.
  */
+@Getter
 public class SeparationComponent extends Component {
     private final double minDistance;
     private final double pushFactor;
@@ -37,26 +38,4 @@ public class SeparationComponent extends Component {
         this.minDistance = minDistance;
         this.pushFactor = pushFactor;
     }
-
-    /**
-     * Вызывается каждый кадр.
-     * <p>
-     * Проверяет все сущности типа {@link EntityType#HOSTILE_MOB} и отталкивает их
-     * друг от друга, если расстояние между ними меньше {@code minDistance}.
-     *
-     * @param tpf время между кадрами (time per frame)
-     */
-    @Override
-    public void onUpdate(double tpf) {
-        FXGL.getGameWorld().getEntitiesByType(EntityType.HOSTILE_MOB)
-                .stream()
-                .filter(e -> e != entity)
-                .forEach(e -> {
-                    Point2D diff = entity.getCenter().subtract(e.getCenter());
-                    double dist = diff.magnitude();
-                    if (dist < minDistance && dist > 0) {
-                        entity.translate(diff.normalize().multiply((minDistance - dist) * tpf * pushFactor));
-                    }
-                });
-    }
 }
@@ -1,41 +1,90 @@
 package org.example.deadknight.gameplay.components;
 
 import com.almasb.fxgl.entity.component.Component;
-import com.almasb.fxgl.entity.Entity;
 import javafx.geometry.Point2D;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
+import org.example.deadknight.gameplay.combat.AttackEngine;
+import org.example.deadknight.gameplay.combat.AttackSpec;
+import org.example.deadknight.gameplay.components.types.Faction;
+import org.example.deadknight.gameplay.systems.DamageableIndex;
+import org.example.deadknight.gameplay.systems.SweptCollision;
 
-import java.util.List;
-import static com.almasb.fxgl.dsl.FXGL.*;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  * Компонент для магической волны, выпускаемой игроком (например, рыцарем).
  * <p>
- * Волна движется в заданном направлении, наносит урон сущностям с флагом {@code "canTakeDamage"}
- * и отталкивает их с использованием {@link PushComponent}. Сила отталкивания каждой
- * сущности может задаваться отдельным свойством {@code "wavePushStrength"}.
+ * Волна движется в заданном направлении, наносит урон сущностям с включённым {@link DamageableComponent}
+ * чужой стороны и отталкивает их с использованием {@link PushComponent}. Броня и сила отталкивания
+ * задаются в {@link DamageableComponent} каждой сущности.
+ * <p>
+ * Поведение волны задаётся записью {@link AttackSpec}: урон, скорость, пробитие, взрыв и цепь
+ * исполняет {@link AttackEngine}, поэтому новые виды волн не требуют новых компонентов.
+ * Каждую цель волна задевает не больше одного раза.
+ * <p>
+ * Цели ищутся через {@link DamageableIndex}: проверяются только сущности из ближайших ячеек,
+ * поэтому стоимость волны не зависит от числа сущностей в мире. Попадание проверяется на всём пути
+ * за кадр ({@link SweptCollision}), поэтому тонкая быстрая волна не проскакивает гоблина при низком FPS.
  */
 @Getter
 @Setter
 public class WaveComponent extends Component {
 
+    /** Сколько пробиваемых целей волна разбирает за один кадр */
+    private static final int MAX_HITS_PER_FRAME = 64;
+
+    /** Общие буферы попаданий кадра (FX-поток) */
+    private static final DamageableComponent[] HITS = new DamageableComponent[MAX_HITS_PER_FRAME];
+    private static final double[] HIT_TIMES = new double[MAX_HITS_PER_FRAME];
+
     /** Направление движения волны (единичный вектор) */
     private final Point2D direction;
 
+    /** Описание атаки */
+    private final AttackSpec spec;
+
     /** Скорость движения волны в пикселях в секунду */
-    private final double speed = 500;
+    private final double speed;
 
     /** Урон, наносимый волной */
-    private final int damage = 20;
+    private final int damage;
+
+    /** Сторона волны: своих она не задевает */
+    private final Faction faction = Faction.PLAYER;
+
+    /** Сколько ещё целей волна может пробить, прежде чем исчезнуть */
+    private int pierceLeft;
+
+    /** Цели, уже задетые этой волной (включая взрывы и цепи) */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final Set<DamageableComponent> hit = new HashSet<>();
 
     /**
-     * Создает компонент волны с заданным направлением движения.
+     * Создает обычную волну ({@link AttackSpec#WAVE}) с заданным направлением движения.
      *
      * @param direction направление движения волны (единичный вектор)
      */
     public WaveComponent(Point2D direction) {
+        this(direction, AttackSpec.WAVE);
+    }
+
+    /**
+     * Создает волну по описанию атаки.
+     *
+     * @param direction направление движения волны (единичный вектор)
+     * @param spec      описание атаки-снаряда
+     */
+    public WaveComponent(Point2D direction, AttackSpec spec) {
         this.direction = direction;
+        this.spec = spec;
+        this.speed = spec.speed();
+        this.damage = spec.damage();
+        this.pierceLeft = spec.pierce();
     }
 
     /**
@@ -43,104 +92,44 @@ public class WaveComponent extends Component {
      * <p>
      * Основная логика включает:
      * <ul>
-     *     <li>Перемещение волны</li>
-     *     <li>Проверку столкновений с сущностями</li>
-     *     <li>Нанесение урона и отталкивание через {@link PushComponent}</li>
-     *     <li>Удаление волны после первого попадания</li>
+     *     <li>Проверку столкновений на всём отрезке перемещения за кадр ({@link SweptCollision})</li>
+     *     <li>Нанесение урона, взрыв и цепь через {@link AttackEngine#impact}</li>
+     *     <li>Удаление волны, когда пробитие исчерпано</li>
+     *     <li>Перемещение волны, если она ещё жива</li>
      * </ul>
      *
      * @param tpf время, прошедшее с последнего кадра (Time Per Frame)
      */
     @Override
     public void onUpdate(double tpf) {
-        moveWave(tpf);
-        handleCollisions();
-    }
-
-    /**
-     * Перемещает волну в направлении {@link #direction} с учётом {@link #speed} и времени кадра.
-     *
-     * @param tpf время, прошедшее с последнего кадра
-     */
-    private void moveWave(double tpf) {
-        entity.translate(direction.multiply(speed * tpf));
-    }
-
-    /**
-     * Обрабатывает столкновения волны с сущностями.
-     * <p>
-     * Волна наносит урон первой столкнувшейся сущности и отталкивает её,
-     * после чего удаляется из мира.
-     */
-    private void handleCollisions() {
-        List<Entity> collidingEntities = getCollidingEntities();
-        for (Entity e : collidingEntities) {
-            applyDamageAndPush(e);
-            removeWave();
-            break; // волна исчезает после первого попадания
+        double dx = direction.getX() * speed * tpf;
+        double dy = direction.getY() * speed * tpf;
+
+        if (spec.pierce() == 0) {
+            DamageableComponent target = SweptCollision.firstHit(entity, dx, dy, faction);
+            if (target != null) {
+                AttackEngine.impact(target, direction, spec, faction, hit);
+                removeWave(); // волна исчезает после первого попадания
+                return;
+            }
+        } else {
+            int hits = SweptCollision.allHits(entity, dx, dy, faction, HITS, HIT_TIMES);
+            for (int k = 0; k < hits; k++) {
+                DamageableComponent target = HITS[k];
+                if (hit.contains(target)) continue; // уже пробита или задета взрывом
+
+                AttackEngine.impact(target, direction, spec, faction, hit);
+                if (pierceLeft-- == 0) {
+                    Arrays.fill(HITS, 0, hits, null);
+                    removeWave();
+                    return;
+                }
+            }
+            Arrays.fill(HITS, 0, hits, null);
         }
+        entity.translate(dx, dy);
     }
 
-    /**
-     * Возвращает список сущностей, которые сталкиваются с волной
-     * и могут получать урон.
-     *
-     * @return список сущностей для нанесения урона
-     */
-    private List<Entity> getCollidingEntities() {
-        return getGameWorld().getEntities().stream()
-                .filter(e -> e != null)
-                .filter(e -> e.isColliding(entity))
-                .filter(this::canTakeDamage)
-                .toList();
-    }
-
-    /**
-     * Проверяет, может ли сущность получать урон.
-     * <p>
-     * Проверяет наличие свойства {@code "canTakeDamage"} и его значение.
-     *
-     * @param e сущность
-     * @return true, если сущность может получать урон, иначе false
-     */
-    private boolean canTakeDamage(Entity e) {
-        return e.getProperties()
-                .getValueOptional("canTakeDamage")
-                .map(v -> v instanceof Boolean && (Boolean) v)
-                .orElse(false);
-    }
-
-    /**
-     * Наносит урон и отталкивает сущность при попадании волны.
-     *
-     * @param e сущность для обработки
-     */
-    private void applyDamageAndPush(Entity e) {
-        HealthComponent health = e.getComponent(HealthComponent.class);
-        if (health == null) return;
-
-        health.takeDamage(damage);
-
-        double pushStrength = getPushStrength(e);
-        e.getComponentOptional(PushComponent.class)
-                .ifPresent(push -> push.addImpulse(direction.multiply(pushStrength)));
-    }
-
-    /**
-     * Получает силу отталкивания сущности, заданную в свойстве {@code "wavePushStrength"}.
-     *
-     * @param e сущность
-     * @return сила отталкивания, 0 если свойство отсутствует или некорректное
-     */
-    private double getPushStrength(Entity e) {
-        return e.getProperties()
-                .getValueOptional("wavePushStrength")
-                .filter(v -> v instanceof Number)
-                .map(v -> ((Number) v).doubleValue())
-                .orElse(0.0);
-    }
-
-
     /**
      * Удаляет волну из игрового мира.
      */
@@ -0,0 +1,17 @@
+package org.example.deadknight.gameplay.components.types;
+
+/**
+ * Сторона, к которой относится сущность в бою.
+ * Атака не задевает сущности своей стороны.
+ */
+public enum Faction {
+
+    /** Игрок и его атаки */
+    PLAYER,
+
+    /** Враждебные мобы */
+    MONSTER,
+
+    /** Объекты окружения (например, колючки): их может разрушить любая сторона */
+    NEUTRAL
+}
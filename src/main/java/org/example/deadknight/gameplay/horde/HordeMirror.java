@@ -0,0 +1,258 @@
+package org.example.deadknight.gameplay.horde;
+
+import com.almasb.fxgl.app.scene.Viewport;
+import com.almasb.fxgl.dsl.FXGL;
+import com.almasb.fxgl.entity.Entity;
+import com.almasb.fxgl.entity.components.CollidableComponent;
+import com.almasb.fxgl.physics.BoundingShape;
+import com.almasb.fxgl.physics.HitBox;
+import javafx.geometry.Point2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+import org.example.deadknight.config.GameConfig;
+import org.example.deadknight.gameplay.actors.mobs.components.DropComponent;
+import org.example.deadknight.gameplay.actors.mobs.entities.types.EntityType;
+import org.example.deadknight.gameplay.combat.CombatSystem;
+import org.example.deadknight.gameplay.components.DamageableComponent;
+import org.example.deadknight.gameplay.components.HealthComponent;
+import org.example.deadknight.gameplay.components.PushComponent;
+import org.example.deadknight.gameplay.components.types.Faction;
+import org.example.deadknight.gameplay.services.LootService;
+import org.example.deadknight.infrastructure.assets.AnimationClip;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Отражение видимой части орды в сущности FXGL.
+ *
+ * <p>Мобы орды живут в {@link HordeStore}, но игрок бьёт сущности: волна ищет сталкивающиеся сущности
+ * с {@link DamageableComponent}, {@link HealthComponent} и {@link PushComponent}. Поэтому каждому мобу на экране
+ * временно выдаётся прокси-сущность типа {@link EntityType#HORDE_MOB} из пула:
+ * <ul>
+ *     <li>{@link #push} — ставит прокси на место моба, копирует здоровье и кадр анимации;</li>
+ *     <li>{@link #pull} — в начале следующего кадра забирает обратно полученный урон и импульс отталкивания.</li>
+ * </ul>
+ * Мобы за экраном прокси не имеют и в сцене не присутствуют. Прокси не обновляются FXGL
+ * и никогда не удаляются: лишние просто скрываются до следующего использования.
+ * При {@link GameConfig#CANVAS_MOB_RENDERER} вид прокси пуст: орду рисует холст мобов.
+ */
+public class HordeMirror {
+
+    /** Смещение позиции сущности (левый верх спрайта) от центра хитбокса: как у гоблина из {@code GoblinFactory} */
+    static final double SPRITE_OFFSET_X = 70;
+    static final double SPRITE_OFFSET_Y = 95;
+
+    /** Размер спрайта гоблина */
+    private static final double SPRITE_SIZE = 140;
+
+    /** Запас вокруг экрана, в котором мобу уже выдаётся прокси */
+    private static final double VISIBLE_MARGIN = 160;
+
+    /** Грейд дропа: как у обычного гоблина */
+    private static final String DROP_GRADE = "goblin_basic";
+
+    /** Ширина полосы здоровья */
+    private static final double HEALTH_BAR_WIDTH = 40;
+
+    private final List<Entity> proxies = new ArrayList<>();
+    private final List<ImageView> sprites = new ArrayList<>();
+    private final List<Rectangle> healthBars = new ArrayList<>();
+    private final List<HealthComponent> healths = new ArrayList<>();
+    private final List<PushComponent> pushes = new ArrayList<>();
+
+    /** Моб, к которому привязан прокси, или {@code -1} */
+    private int[] proxyMob = new int[0];
+
+    /** Стек свободных прокси */
+    private int[] free = new int[0];
+    private int freeCount;
+
+    private final int maxHealth;
+    private final double pushStrength;
+    private final LootService lootService;
+
+    /**
+     * @param maxHealth    максимальное здоровье моба (для полосы здоровья)
+     * @param pushStrength сила отталкивания моба при попадании
+     * @param lootService  сервис дропа: прокси несут {@link DropComponent}, как обычный гоблин
+     */
+    public HordeMirror(int maxHealth, double pushStrength, LootService lootService) {
+        this.maxHealth = maxHealth;
+        this.pushStrength = pushStrength;
+        this.lootService = lootService;
+    }
+
+    /**
+     * Забирает из прокси урон и отталкивание, полученные за прошлый кадр.
+     *
+     * @param store хранилище орды
+     */
+    public void pull(HordeStore store) {
+        for (int p = 0; p < proxies.size(); p++) {
+            int m = proxyMob[p];
+            if (m < 0) continue;
+
+            int hp = healths.get(p).getValue();
+            if (hp < store.health[m]) store.health[m] = hp;
+
+            PushComponent push = pushes.get(p);
+            Point2D v = push.getVelocity();
+            if (v != Point2D.ZERO) {
+                store.pushX[m] += v.getX();
+                store.pushY[m] += v.getY();
+                push.reset();
+            }
+        }
+    }
+
+    /**
+     * Привязывает прокси к мобам на экране, отвязывает ушедших с экрана и обновляет их вид.
+     *
+     * @param store    хранилище орды
+     * @param viewport камера игровой сцены
+     * @param clips    клипы анимации: ходьба вправо/влево, атака вправо/влево
+     */
+    public void push(HordeStore store, Viewport viewport, AnimationClip[] clips) {
+        double zoom = viewport.getZoom();
+        double minX = viewport.getX() - VISIBLE_MARGIN;
+        double minY = viewport.getY() - VISIBLE_MARGIN;
+        double maxX = viewport.getX() + viewport.getWidth() / zoom + VISIBLE_MARGIN;
+        double maxY = viewport.getY() + viewport.getHeight() / zoom + VISIBLE_MARGIN;
+
+        for (int m = 0; m < store.size; m++) {
+            double x = store.x[m];
+            double y = store.y[m];
+            boolean visible = x >= minX && x <= maxX && y >= minY && y <= maxY;
+            int p = store.proxy[m];
+
+            if (!visible) {
+                if (p >= 0) unbind(store, m);
+                continue;
+            }
+            if (p < 0) p = bind(store, m);
+
+            Entity proxy = proxies.get(p);
+            proxy.setPosition(x - SPRITE_OFFSET_X, y - SPRITE_OFFSET_Y);
+
+            HealthComponent health = healths.get(p);
+            if (health.getValue() != store.health[m]) {
+                health.valueProperty().set(store.health[m]);
+            }
+            if (sprites.get(p) == null) continue; // у прокси нет вида: моба рисует пакет холста мобов
+
+            healthBars.get(p).setWidth(HEALTH_BAR_WIDTH * store.health[m] / maxHealth);
+
+            AnimationClip clip = HordeSystem.clipOf(store, m, clips);
+            ImageView sprite = sprites.get(p);
+            Image frame = clip.getFrame(Math.min(store.animFrame[m], clip.getFrameCount() - 1));
+            if (sprite.getImage() != frame) sprite.setImage(frame);
+            sprite.setScaleX(clip.getScaleX());
+        }
+    }
+
+    /**
+     * Отвязывает прокси от моба (например, перед его удалением).
+     *
+     * @param store хранилище орды
+     * @param m     индекс моба
+     */
+    public void unbind(HordeStore store, int m) {
+        int p = store.proxy[m];
+        if (p < 0) return;
+        store.proxy[m] = -1;
+        proxyMob[p] = -1;
+        CombatSystem.cancel(proxies.get(p)); // урон по мёртвому мобу не должен достаться следующему владельцу прокси
+        setActive(proxies.get(p), false);
+        free[freeCount++] = p;
+    }
+
+    /**
+     * Сообщает, что моб переехал на индекс {@code to} после удаления другого моба ({@link HordeStore#remove(int)}).
+     *
+     * @param store хранилище орды
+     * @param to    новый индекс моба
+     */
+    public void moved(HordeStore store, int to) {
+        int p = store.proxy[to];
+        if (p >= 0) proxyMob[p] = to;
+    }
+
+    /** Количество мобов, у которых сейчас есть прокси */
+    public int getBoundCount() {
+        return proxies.size() - freeCount;
+    }
+
+    /** Скрывает все прокси (сущности остаются в мире до очистки сцены) */
+    public void clear() {
+        Arrays.fill(proxyMob, -1);
+        freeCount = 0;
+        for (int p = 0; p < proxies.size(); p++) {
+            setActive(proxies.get(p), false);
+            free[freeCount++] = p;
+        }
+    }
+
+    private int bind(HordeStore store, int m) {
+        int p = freeCount > 0 ? free[--freeCount] : createProxy();
+        proxyMob[p] = m;
+        store.proxy[m] = p;
+        healths.get(p).valueProperty().set(store.health[m]);
+        setActive(proxies.get(p), true);
+        return p;
+    }
+
+    private int createProxy() {
+        ImageView sprite = null;
+        Rectangle healthBar = null;
+        HealthComponent health = new HealthComponent(maxHealth);
+        PushComponent push = new PushComponent();
+
+        Entity proxy = FXGL.entityBuilder()
+                .type(EntityType.HORDE_MOB)
+                .bbox(new HitBox("BODY", new Point2D(65, 80), BoundingShape.box(10, 30)))
+                .with(health)
+                .with(push)
+                .with(new DamageableComponent(Faction.MONSTER, 0, pushStrength))
+                .with(new DropComponent(DROP_GRADE, lootService))
+                .collidable()
+                .buildAndAttach();
+        proxy.setUpdateEnabled(false); // всё поведение считает HordeSystem
+
+        if (!GameConfig.CANVAS_MOB_RENDERER) {
+            sprite = new ImageView();
+            sprite.setFitWidth(SPRITE_SIZE);
+            sprite.setFitHeight(SPRITE_SIZE);
+            sprite.setSmooth(true);
+
+            healthBar = new Rectangle(HEALTH_BAR_WIDTH, 5, Color.LIME);
+            healthBar.setTranslateX(45);
+            healthBar.setTranslateY(50);
+
+            proxy.getViewComponent().addChild(sprite);
+            proxy.getViewComponent().addChild(healthBar);
+        }
+
+        int p = proxies.size();
+        proxies.add(proxy);
+        sprites.add(sprite);
+        healthBars.add(healthBar);
+        healths.add(health);
+        pushes.add(push);
+        if (p >= proxyMob.length) {
+            int capacity = Math.max(64, proxyMob.length * 2);
+            proxyMob = Arrays.copyOf(proxyMob, capacity);
+            free = Arrays.copyOf(free, capacity);
+        }
+        return p;
+    }
+
+    private static void setActive(Entity proxy, boolean active) {
+        proxy.getComponent(DamageableComponent.class).setEnabled(active);
+        proxy.getComponent(CollidableComponent.class).setValue(active);
+        proxy.setVisible(active);
+    }
+}
@@ -0,0 +1,147 @@
+package org.example.deadknight.gameplay.horde;
+
+import java.util.Arrays;
+
+/**
+ * Хранилище состояния мобов орды в виде структуры массивов (structure of arrays).
+ *
+ * <p>Каждый моб — индекс {@code 0..size-1} в параллельных массивах: позиция центра хитбокса,
+ * скорость движения, скорость отталкивания, здоровье, перезарядка атаки и кадр анимации.
+ * Мобы лежат плотно: при удалении на место удалённого переносится последний ({@link #remove(int)}),
+ * поэтому системы обходят массивы подряд без пропусков и без объектов на моба.
+ *
+ * <p>Поля открыты пакету {@code horde}: их читают и пишут системы орды в общем цикле.
+ * Не потокобезопасно: запись идёт из одного потока.
+ */
+public class HordeStore {
+
+    /** Флаг: моб смотрит вправо */
+    static final byte FACING_RIGHT = 1;
+
+    /** Флаг: моб проигрывает анимацию атаки */
+    static final byte ATTACKING = 1 << 1;
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    /** Количество живых мобов */
+    int size;
+
+    /** Центр хитбокса */
+    double[] x = new double[INITIAL_CAPACITY];
+    double[] y = new double[INITIAL_CAPACITY];
+
+    /** Скорость движения к цели за последний шаг, px/с */
+    double[] vx = new double[INITIAL_CAPACITY];
+    double[] vy = new double[INITIAL_CAPACITY];
+
+    /** Скорость отталкивания (аналог {@code PushComponent}), px/с */
+    double[] pushX = new double[INITIAL_CAPACITY];
+    double[] pushY = new double[INITIAL_CAPACITY];
+
+    /** Текущее здоровье */
+    int[] health = new int[INITIAL_CAPACITY];
+
+    /** Время, прошедшее с последней атаки */
+    float[] attackTimer = new float[INITIAL_CAPACITY];
+
+    /** Кадр и накопленное время текущей анимации */
+    short[] animFrame = new short[INITIAL_CAPACITY];
+    float[] animTime = new float[INITIAL_CAPACITY];
+
+    /** Битовые флаги {@link #FACING_RIGHT}, {@link #ATTACKING} */
+    byte[] flags = new byte[INITIAL_CAPACITY];
+
+    /** Индекс привязанной прокси-сущности или {@code -1} */
+    int[] proxy = new int[INITIAL_CAPACITY];
+
+    /**
+     * Добавляет моба.
+     *
+     * @param cx     центр хитбокса по X
+     * @param cy     центр хитбокса по Y
+     * @param health начальное здоровье
+     * @return индекс нового моба
+     */
+    public int add(double cx, double cy, int health) {
+        if (size == x.length) grow();
+        int i = size++;
+        x[i] = cx;
+        y[i] = cy;
+        vx[i] = 0;
+        vy[i] = 0;
+        pushX[i] = 0;
+        pushY[i] = 0;
+        this.health[i] = health;
+        attackTimer[i] = 0;
+        animFrame[i] = 0;
+        animTime[i] = 0;
+        flags[i] = FACING_RIGHT;
+        proxy[i] = -1;
+        return i;
+    }
+
+    /**
+     * Удаляет моба, перенося на его место последнего.
+     *
+     * @param i индекс удаляемого моба
+     * @return прежний индекс перенесённого моба ({@code size} до удаления) или {@code -1}, если удалялся последний
+     */
+    public int remove(int i) {
+        int last = --size;
+        if (i == last) return -1;
+        x[i] = x[last];
+        y[i] = y[last];
+        vx[i] = vx[last];
+        vy[i] = vy[last];
+        pushX[i] = pushX[last];
+        pushY[i] = pushY[last];
+        health[i] = health[last];
+        attackTimer[i] = attackTimer[last];
+        animFrame[i] = animFrame[last];
+        animTime[i] = animTime[last];
+        flags[i] = flags[last];
+        proxy[i] = proxy[last];
+        return last;
+    }
+
+    /** Количество мобов */
+    public int size() {
+        return size;
+    }
+
+    /** Центр моба по X */
+    public double getX(int i) {
+        return x[i];
+    }
+
+    /** Центр моба по Y */
+    public double getY(int i) {
+        return y[i];
+    }
+
+    /** Здоровье моба */
+    public int getHealth(int i) {
+        return health[i];
+    }
+
+    /** Удаляет всех мобов */
+    public void clear() {
+        size = 0;
+    }
+
+    private void grow() {
+        int capacity = x.length * 2;
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        vx = Arrays.copyOf(vx, capacity);
+        vy = Arrays.copyOf(vy, capacity);
+        pushX = Arrays.copyOf(pushX, capacity);
+        pushY = Arrays.copyOf(pushY, capacity);
+        health = Arrays.copyOf(health, capacity);
+        attackTimer = Arrays.copyOf(attackTimer, capacity);
+        animFrame = Arrays.copyOf(animFrame, capacity);
+        animTime = Arrays.copyOf(animTime, capacity);
+        flags = Arrays.copyOf(flags, capacity);
+        proxy = Arrays.copyOf(proxy, capacity);
+    }
+}
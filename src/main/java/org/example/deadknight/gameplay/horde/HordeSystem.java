@@ -0,0 +1,399 @@
+package org.example.deadknight.gameplay.horde;
+
+import com.almasb.fxgl.app.scene.Viewport;
+import com.almasb.fxgl.dsl.FXGL;
+import com.almasb.fxgl.entity.Entity;
+import com.almasb.fxgl.entity.components.BoundingBoxComponent;
+import javafx.geometry.Point2D;
+import lombok.Getter;
+import org.example.deadknight.gameplay.actors.mobs.components.DeathAnimationComponent;
+import org.example.deadknight.gameplay.combat.CombatSystem;
+import org.example.deadknight.gameplay.components.HealthComponent;
+import org.example.deadknight.gameplay.services.LootService;
+import org.example.deadknight.gameplay.systems.PlayerFlowField;
+import org.example.deadknight.gameplay.systems.SpatialGrid;
+import org.example.deadknight.infrastructure.assets.AnimationClip;
+import org.example.deadknight.infrastructure.assets.GoblinAnimationLoader;
+import org.example.deadknight.infrastructure.render.services.MobCanvasRenderer;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Симуляция орды гоблинов в режиме {@code GameConfig.HORDE_MODE}.
+ *
+ * <p>Состояние всех мобов лежит в {@link HordeStore}, и один цикл за кадр обновляет его целиком —
+ * вместо шести компонентов с собственным {@code onUpdate} на каждого гоблина:
+ * <ol>
+ *     <li>забирает урон и отталкивание, полученные видимыми мобами через прокси ({@link HordeMirror#pull});</li>
+ *     <li>строит сетку соседей по массивам позиций;</li>
+ *     <li>для каждого моба считает намерения: смещение (к игроку по {@link PlayerFlowField} или напрямую,
+ *         разделение с соседями, затухание отталкивания) и готовность удара; заодно двигает кадр анимации;</li>
+ *     <li>применяет смещения и удары, убирает погибших (анимация смерти на экране; дроп — через слушателей {@link CombatSystem});</li>
+ *     <li>отражает видимую часть орды в прокси-сущности ({@link HordeMirror#push}).</li>
+ * </ol>
+ * Параметры мобов совпадают с обычным гоблином из {@code GoblinFactory}.
+ *
+ * <p>Стадия намерений читает только снимок позиций (массивы позиций и сетка не меняются до её конца)
+ * и пишет только в ячейки своего моба, поэтому при {@link #PARALLEL_THRESHOLD} мобах и больше
+ * она делится на отрезки по {@link #TASK_SIZE} и выполняется в {@link ForkJoinPool#commonPool()}.
+ * Всё, что трогает сцену и другие сущности (урон игроку, прокси), применяется в FX-потоке после неё.
+ */
+public class HordeSystem {
+
+    static final double SPEED = 100;
+    static final int DAMAGE = 10;
+    static final int HEALTH = 50;
+    static final double ATTACK_RANGE = 50;
+    static final double ATTACK_COOLDOWN = 1.0;
+    static final double SEPARATION_DISTANCE = 50;
+    static final double SEPARATION_PUSH = 0.5;
+    static final double PUSH_DAMPING = 3.0;
+    static final double PUSH_STRENGTH = 300;
+    static final double WALK_FRAME_TIME = 0.1;
+    static final double ATTACK_FRAME_TIME = 0.04;
+
+    /** Размер ячейки сетки соседей — как у {@code MobSpatialIndex} */
+    private static final double CELL_SIZE = 64;
+
+    /** Размер гоблина для клипов анимации */
+    private static final int GOBLIN_SIZE = 140;
+
+    /** С какого числа мобов стадия намерений считается параллельно */
+    static final int PARALLEL_THRESHOLD = 2048;
+
+    /** Мобов в одной задаче fork-join */
+    static final int TASK_SIZE = 512;
+
+    /** Индексы клипов в {@link #clips} */
+    static final int WALK_RIGHT = 0;
+    static final int WALK_LEFT = 1;
+    static final int ATTACK_RIGHT = 2;
+    static final int ATTACK_LEFT = 3;
+
+    @Getter
+    private final HordeStore store = new HordeStore();
+
+    @Getter
+    private final HordeMirror mirror;
+
+    private final SpatialGrid grid = new SpatialGrid(CELL_SIZE);
+    private final AnimationClip[] clips;
+    private final AnimationClip deathClip;
+
+    /** Намерения за кадр: смещения, рассчитанные до применения, чтобы результат не зависел от порядка мобов */
+    private double[] moveX = new double[0];
+    private double[] moveY = new double[0];
+
+    /** Намерения за кадр: моб готов ударить игрока */
+    private boolean[] attackReady = new boolean[0];
+
+    /** Буферы для последовательного расчёта в FX-потоке */
+    private final Scratch scratch = new Scratch();
+
+    /** Буферы рабочих потоков стадии намерений: создаются один раз на поток и переиспользуются между кадрами */
+    private final ThreadLocal<Scratch> workerScratch = ThreadLocal.withInitial(Scratch::new);
+
+    /** Цель кадра, общая для всех задач стадии намерений */
+    private boolean hasTarget;
+    private double targetX;
+    private double targetY;
+    private double frameTpf;
+
+    /** Время последнего обновления орды в наносекундах */
+    @Getter
+    private long lastUpdateNanos;
+
+    /**
+     * @param lootService сервис дропа для погибших мобов (дроп выбрасывает {@code LootDropListener} по смерти прокси)
+     */
+    public HordeSystem(LootService lootService) {
+        this.mirror = new HordeMirror(HEALTH, PUSH_STRENGTH, lootService);
+
+        GoblinAnimationLoader loader = new GoblinAnimationLoader(GOBLIN_SIZE);
+        this.clips = new AnimationClip[]{
+                loader.loadWalkRight(), loader.loadWalkLeft(), loader.loadAttackRight(), loader.loadAttackLeft()
+        };
+        this.deathClip = loader.loadDeathFrames();
+    }
+
+    /**
+     * Добавляет моба в орду.
+     *
+     * @param x координата X левого верхнего угла спрайта (как позиция сущности гоблина)
+     * @param y координата Y левого верхнего угла спрайта
+     */
+    public void spawn(double x, double y) {
+        store.add(x + HordeMirror.SPRITE_OFFSET_X, y + HordeMirror.SPRITE_OFFSET_Y, HEALTH);
+    }
+
+    /** Количество живых мобов орды */
+    public int size() {
+        return store.size();
+    }
+
+    /**
+     * Обновляет всю орду за кадр.
+     *
+     * @param player   сущность игрока
+     * @param viewport камера игровой сцены
+     * @param tpf      время кадра в секундах
+     */
+    public void update(Entity player, Viewport viewport, double tpf) {
+        long start = System.nanoTime();
+
+        mirror.pull(store);
+        int count = store.size;
+        ensureCapacity(count);
+        grid.rebuild(store.x, store.y, count);
+
+        hasTarget = player != null && player.isActive();
+        frameTpf = tpf;
+        HealthComponent targetHealth = null;
+        if (hasTarget) {
+            BoundingBoxComponent bbox = player.getBoundingBoxComponent();
+            targetX = (bbox.getMinXWorld() + bbox.getMaxXWorld()) / 2;
+            targetY = (bbox.getMinYWorld() + bbox.getMaxYWorld()) / 2;
+            targetHealth = player.getComponentOptional(HealthComponent.class).orElse(null);
+        }
+
+        if (count >= PARALLEL_THRESHOLD) {
+            ForkJoinPool.commonPool().invoke(new IntentTask(0, count));
+        } else {
+            simulate(0, count, scratch);
+        }
+
+        int hits = 0;
+        for (int i = 0; i < count; i++) {
+            store.x[i] += moveX[i];
+            store.y[i] += moveY[i];
+            if (attackReady[i]) hits++;
+        }
+        if (hits > 0 && targetHealth != null) hitPlayer(player, targetHealth, hits);
+
+        removeDead(viewport);
+        mirror.push(store, viewport, clips);
+
+        lastUpdateNanos = System.nanoTime() - start;
+    }
+
+    /**
+     * Добавляет мобов орды в пакетную отрисовку. Холст сам отбрасывает мобов за экраном.
+     *
+     * @param renderer холст мобов
+     */
+    public void draw(MobCanvasRenderer renderer) {
+        HordeStore s = store;
+        for (int i = 0; i < s.size; i++) {
+            if (s.proxy[i] < 0) continue; // без прокси — заведомо далеко за экраном
+            renderer.add(s.x[i] - HordeMirror.SPRITE_OFFSET_X, s.y[i] - HordeMirror.SPRITE_OFFSET_Y,
+                    clipOf(s, i, clips), s.animFrame[i], (double) s.health[i] / HEALTH);
+        }
+    }
+
+    /** Удаляет всех мобов орды и скрывает их прокси */
+    public void clear() {
+        mirror.clear();
+        store.clear();
+        grid.clear();
+    }
+
+    /** Считает намерения мобов {@code [from, to)} */
+    private void simulate(int from, int to, Scratch scratch) {
+        for (int i = from; i < to; i++) {
+            simulate(i, scratch);
+        }
+    }
+
+    /**
+     * Считает намерения и состояние моба {@code i} за кадр.
+     * Читает позиции всех мобов, но пишет только в ячейки моба {@code i}:
+     * смещение в {@link #moveX}/{@link #moveY}, готовность удара в {@link #attackReady}.
+     */
+    private void simulate(int i, Scratch scratch) {
+        HordeStore s = store;
+        double tpf = frameTpf;
+        double x = s.x[i];
+        double y = s.y[i];
+        double dx = 0;
+        double dy = 0;
+        boolean attacking = (s.flags[i] & HordeStore.ATTACKING) != 0;
+        boolean attack = false;
+
+        if (hasTarget) {
+            double tx = targetX - x;
+            double ty = targetY - y;
+            double dist = Math.sqrt(tx * tx + ty * ty);
+            if (dist > ATTACK_RANGE) {
+                double dirX;
+                double dirY;
+                if (PlayerFlowField.steer(x, y, scratch.flowDir)) {
+                    dirX = scratch.flowDir[0];
+                    dirY = scratch.flowDir[1];
+                } else {
+                    dirX = tx / dist;
+                    dirY = ty / dist;
+                }
+                dx = dirX * SPEED * tpf;
+                dy = dirY * SPEED * tpf;
+                if (dirX != 0) setFlag(i, HordeStore.FACING_RIGHT, dirX >= 0);
+            } else {
+                s.attackTimer[i] += (float) tpf;
+                if (s.attackTimer[i] >= ATTACK_COOLDOWN) {
+                    s.attackTimer[i] = 0;
+                    attack = true;
+                    if (!attacking) {
+                        attacking = true;
+                        s.animFrame[i] = 0;
+                        s.animTime[i] = 0;
+                    }
+                }
+            }
+        }
+        s.vx[i] = tpf > 0 ? dx / tpf : 0;
+        s.vy[i] = tpf > 0 ? dy / tpf : 0;
+
+        // разделение с соседями
+        int[] neighbours = scratch.neighbours;
+        int found = grid.query(x, y, SEPARATION_DISTANCE, neighbours);
+        while (found == neighbours.length) {
+            neighbours = scratch.neighbours = new int[neighbours.length * 2];
+            found = grid.query(x, y, SEPARATION_DISTANCE, neighbours);
+        }
+        double k = tpf * SEPARATION_PUSH;
+        for (int n = 0; n < found; n++) {
+            int j = neighbours[n];
+            if (j == i) continue;
+            double ox = x - s.x[j];
+            double oy = y - s.y[j];
+            double dist = Math.sqrt(ox * ox + oy * oy);
+            if (dist < SEPARATION_DISTANCE && dist > 0) {
+                double push = (SEPARATION_DISTANCE - dist) * k / dist;
+                dx += ox * push;
+                dy += oy * push;
+            }
+        }
+
+        // отталкивание с затуханием, как в PushComponent
+        double px = s.pushX[i];
+        double py = s.pushY[i];
+        if (px * px + py * py > 0.01) {
+            dx += px * tpf;
+            dy += py * tpf;
+            double decay = 1 - PUSH_DAMPING * tpf;
+            s.pushX[i] = px * decay;
+            s.pushY[i] = py * decay;
+        } else {
+            s.pushX[i] = 0;
+            s.pushY[i] = 0;
+        }
+
+        moveX[i] = dx;
+        moveY[i] = dy;
+        attackReady[i] = attack;
+        animate(i, attacking, tpf);
+    }
+
+    /** Продвигает кадр анимации моба */
+    private void animate(int i, boolean attacking, double tpf) {
+        HordeStore s = store;
+        s.animTime[i] += (float) tpf;
+        if (attacking) {
+            if (s.animTime[i] >= ATTACK_FRAME_TIME) {
+                s.animTime[i] = 0;
+                if (++s.animFrame[i] >= clips[ATTACK_RIGHT].getFrameCount()) {
+                    attacking = false;
+                    s.animFrame[i] = 0;
+                }
+            }
+        } else if (s.animTime[i] >= WALK_FRAME_TIME) {
+            s.animTime[i] = 0;
+            s.animFrame[i] = (short) ((s.animFrame[i] + 1) % clips[WALK_RIGHT].getFrameCount());
+        }
+        setFlag(i, HordeStore.ATTACKING, attacking);
+    }
+
+    /** Ставит в очередь {@link CombatSystem} урон игроку от всех ударивших в кадре мобов (как {@code AttackComponent}) */
+    private void hitPlayer(Entity player, HealthComponent health, int hits) {
+        if (health.isDead()) return;
+        CombatSystem.damage(player, health, null, DAMAGE * hits, Point2D.ZERO);
+    }
+
+    /**
+     * Убирает погибших мобов: анимация смерти (если моб на экране) и удаление из хранилища.
+     * Моб погибает только от урона по его прокси, поэтому смерть уже прошла через {@link CombatSystem}
+     * и дроп с остальными последствиями выполнили слушатели боя.
+     */
+    private void removeDead(Viewport viewport) {
+        HordeStore s = store;
+        for (int i = s.size - 1; i >= 0; i--) {
+            if (s.health[i] > 0) continue;
+
+            double x = s.x[i] - HordeMirror.SPRITE_OFFSET_X;
+            double y = s.y[i] - HordeMirror.SPRITE_OFFSET_Y;
+            if (s.proxy[i] >= 0) {
+                FXGL.entityBuilder()
+                        .at(x, y)
+                        .zIndex(100)
+                        .buildAndAttach()
+                        .addComponent(new DeathAnimationComponent(deathClip,
+                                (s.flags[i] & HordeStore.FACING_RIGHT) != 0));
+            }
+
+            mirror.unbind(s, i);
+            if (s.remove(i) >= 0) mirror.moved(s, i);
+        }
+    }
+
+    /** Клип, который сейчас проигрывает моб {@code m} */
+    static AnimationClip clipOf(HordeStore store, int m, AnimationClip[] clips) {
+        boolean right = (store.flags[m] & HordeStore.FACING_RIGHT) != 0;
+        if ((store.flags[m] & HordeStore.ATTACKING) != 0) {
+            return clips[right ? ATTACK_RIGHT : ATTACK_LEFT];
+        }
+        return clips[right ? WALK_RIGHT : WALK_LEFT];
+    }
+
+    private void setFlag(int i, byte flag, boolean value) {
+        if (value) store.flags[i] |= flag;
+        else store.flags[i] &= (byte) ~flag;
+    }
+
+    private void ensureCapacity(int count) {
+        if (moveX.length >= count) return;
+        int capacity = Math.max(count, moveX.length * 2);
+        moveX = new double[capacity];
+        moveY = new double[capacity];
+        attackReady = new boolean[capacity];
+    }
+
+    /** Буферы одного потока стадии намерений */
+    private static final class Scratch {
+        int[] neighbours = new int[64];
+        final double[] flowDir = new double[2];
+    }
+
+    /** Задача fork-join: делит отрезок мобов пополам, пока он больше {@link #TASK_SIZE} */
+    private final class IntentTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+
+        IntentTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= TASK_SIZE) {
+                simulate(from, to, workerScratch.get());
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new IntentTask(from, mid), new IntentTask(mid, to));
+        }
+    }
+}
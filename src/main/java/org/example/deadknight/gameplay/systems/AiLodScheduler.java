@@ -0,0 +1,107 @@
+package org.example.deadknight.gameplay.systems;
+
+import com.almasb.fxgl.app.scene.Viewport;
+import com.almasb.fxgl.entity.Entity;
+import org.example.deadknight.gameplay.actors.mobs.components.EnemyComponent;
+import org.example.deadknight.gameplay.systems.types.AiLodTier;
+
+import java.util.Arrays;
+
+/**
+ * Планировщик уровней детализации ИИ мобов (AI LOD).
+ *
+ * <p>Раз в кадр, сразу после {@link MobSpatialIndex#rebuild()}, распределяет мобов по уровням
+ * {@link AiLodTier} по расстоянию до видимой области камеры:
+ * <ul>
+ *     <li>{@link AiLodTier#FULL} — на экране (с запасом {@link #SCREEN_MARGIN});</li>
+ *     <li>{@link AiLodTier#NEAR} — не дальше {@link #NEAR_DISTANCE} от края экрана;</li>
+ *     <li>{@link AiLodTier#FAR} — все остальные.</li>
+ * </ul>
+ * Сам уровень применяет {@link EnemyComponent}. Центры мобов берутся из снимка {@link MobSpatialIndex},
+ * поэтому распределение не выделяет памяти.
+ *
+ * <p>Статистика: количество мобов и суммарное время {@code EnemyComponent.onUpdate()} по уровням
+ * за последний завершённый кадр — {@link #getCount(AiLodTier)} и {@link #getNanos(AiLodTier)}.
+ */
+public final class AiLodScheduler {
+
+    /** Запас вокруг экрана, в котором моб ещё считается видимым (спрайт гоблина ~100 px) */
+    public static final double SCREEN_MARGIN = 128;
+
+    /** Расстояние от края экрана, до которого моб относится к {@link AiLodTier#NEAR} */
+    public static final double NEAR_DISTANCE = 768;
+
+    private static final AiLodTier[] TIERS = AiLodTier.values();
+
+    private static final int[] counts = new int[TIERS.length];
+    private static final long[] nanos = new long[TIERS.length];
+    private static final long[] lastNanos = new long[TIERS.length];
+
+    private AiLodScheduler() {}
+
+    /**
+     * Назначает уровни мобам по текущей видимой области.
+     * Должен вызываться после {@link MobSpatialIndex#rebuild()} в том же кадре.
+     *
+     * @param viewport камера игровой сцены
+     */
+    public static void update(Viewport viewport) {
+        // время предыдущего кадра уже накоплено компонентами — фиксируем его
+        System.arraycopy(nanos, 0, lastNanos, 0, nanos.length);
+        Arrays.fill(nanos, 0);
+        Arrays.fill(counts, 0);
+
+        double zoom = viewport.getZoom();
+        double minX = viewport.getX() - SCREEN_MARGIN;
+        double minY = viewport.getY() - SCREEN_MARGIN;
+        double maxX = viewport.getX() + viewport.getWidth() / zoom + SCREEN_MARGIN;
+        double maxY = viewport.getY() + viewport.getHeight() / zoom + SCREEN_MARGIN;
+        double nearSq = NEAR_DISTANCE * NEAR_DISTANCE;
+
+        SpatialGrid grid = MobSpatialIndex.getGrid();
+        for (int i = 0; i < grid.size(); i++) {
+            Entity mob = grid.getEntity(i);
+            if (!mob.hasComponent(EnemyComponent.class)) continue;
+
+            double x = grid.getX(i);
+            double y = grid.getY(i);
+            double dx = x < minX ? minX - x : (x > maxX ? x - maxX : 0);
+            double dy = y < minY ? minY - y : (y > maxY ? y - maxY : 0);
+
+            AiLodTier tier;
+            if (dx == 0 && dy == 0) tier = AiLodTier.FULL;
+            else if (dx * dx + dy * dy <= nearSq) tier = AiLodTier.NEAR;
+            else tier = AiLodTier.FAR;
+
+            mob.getComponent(EnemyComponent.class).setLodTier(tier);
+            counts[tier.ordinal()]++;
+        }
+    }
+
+    /**
+     * Учитывает время одного обновления моба. Вызывается из {@link EnemyComponent}.
+     *
+     * @param tier    уровень моба
+     * @param elapsed затраченное время в наносекундах
+     */
+    public static void record(AiLodTier tier, long elapsed) {
+        nanos[tier.ordinal()] += elapsed;
+    }
+
+    /** Количество мобов на уровне после последнего распределения */
+    public static int getCount(AiLodTier tier) {
+        return counts[tier.ordinal()];
+    }
+
+    /** Суммарное время обновления мобов уровня за последний кадр, нс */
+    public static long getNanos(AiLodTier tier) {
+        return lastNanos[tier.ordinal()];
+    }
+
+    /** Сбрасывает статистику, например при перезапуске игры */
+    public static void clear() {
+        Arrays.fill(counts, 0);
+        Arrays.fill(nanos, 0);
+        Arrays.fill(lastNanos, 0);
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.deadknight.gameplay.systems;
+
+import com.almasb.fxgl.dsl.FXGL;
+import org.example.deadknight.gameplay.actors.mobs.entities.types.EntityType;
+import org.example.deadknight.gameplay.components.DamageableComponent;
+
+import java.util.Arrays;
+
+/**
+ * Общий пространственный индекс сущностей, которые могут получать урон.
+ *
+ * <p>Широкая фаза проверки попаданий: снаряды (например, волна рыцаря) ищут цели в ближайших ячейках
+ * вместо перебора всех сущностей мира — чанков карты, эссенций, анимаций смерти и прочего.
+ * В индекс попадают только типы с {@link DamageableComponent}: гоблины, прокси орды и колючки.
+ * Гоблины из пула ({@link EntityType#POOLED_MOB}) не попадают. Компонент цели ищется один раз при перестройке
+ * и лежит рядом с сущностью ({@link #getDamageable(int)}), так что путь попадания не обращается к карте компонентов.
+ *
+ * <p>Перестраивается раз в кадр из {@code GameWorldManager.update()}. Позиции в индексе — на момент перестройки,
+ * поэтому запрос нужно расширять на {@link #QUERY_MARGIN}, а точную проверку делать по текущему хитбоксу.
+ */
+public final class DamageableIndex {
+
+    /** Размер ячейки: порядка размера хитбоксов целей и снарядов */
+    public static final double CELL_SIZE = 64;
+
+    /**
+     * Запас радиуса запроса к половине размера снаряда: половина самого большого хитбокса цели (колючки 64×64)
+     * плюс смещение цели за кадр после перестройки индекса.
+     */
+    public static final double QUERY_MARGIN = 64;
+
+    private static final EntityType[] TYPES = {EntityType.HOSTILE_MOB, EntityType.HORDE_MOB, EntityType.SPIKES};
+
+    private static final SpatialGrid GRID = new SpatialGrid(CELL_SIZE);
+
+    /** Компоненты целей по индексам сетки ({@code null}, если у сущности его нет) */
+    private static DamageableComponent[] damageables = new DamageableComponent[0];
+
+    private DamageableIndex() {}
+
+    /** Перестраивает индекс по текущим позициям целей. Вызывается раз в кадр */
+    public static void rebuild() {
+        GRID.rebuild(FXGL.getGameWorld().getEntitiesByType(TYPES));
+
+        int count = GRID.size();
+        if (damageables.length < count) damageables = new DamageableComponent[Math.max(count, damageables.length * 2)];
+        for (int i = 0; i < count; i++) {
+            damageables[i] = GRID.getEntity(i).getComponentOptional(DamageableComponent.class).orElse(null);
+        }
+        Arrays.fill(damageables, count, damageables.length, null);
+    }
+
+    /** Компонент цели по индексу из результата запроса к {@link #getGrid()} */
+    public static DamageableComponent getDamageable(int index) {
+        return damageables[index];
+    }
+
+    /** Сетка целей, построенная в текущем кадре */
+    public static SpatialGrid getGrid() {
+        return GRID;
+    }
+
+    /** Очищает индекс, например при перезапуске игры */
+    public static void clear() {
+        GRID.clear();
+        Arrays.fill(damageables, null);
+    }
+}
@@ -0,0 +1,250 @@
+package org.example.deadknight.gameplay.systems;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+
+/**
+ * Поле направлений (flow field) к цели по тайловой сетке.
+ *
+ * <p>Поле строится в квадратном окне {@code (2 * radius + 1)²} тайлов вокруг цели алгоритмом Дейкстры
+ * (8 соседей, стоимость 10 по прямой и 14 по диагонали, без срезания углов у препятствий).
+ * Для каждого тайла хранится единичный вектор к соседу с меньшей стоимостью, поэтому мобу
+ * достаточно одного обращения к массиву вместо собственного поиска пути.
+ *
+ * <p>Все массивы выделяются один раз, перестройка не создаёт объектов.
+ */
+public class FlowField {
+
+    /** Стоимость недостижимого тайла */
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    /** Стоимость шага по прямой */
+    public static final int STRAIGHT_COST = 10;
+
+    /** Стоимость шага по диагонали; тайлы со стоимостью не больше неё — соседи цели */
+    public static final int DIAGONAL_COST = 14;
+
+    private static final int[] NEIGHBOUR_DX = {1, -1, 0, 0, 1, 1, -1, -1};
+    private static final int[] NEIGHBOUR_DY = {0, 0, 1, -1, 1, -1, 1, -1};
+    private static final float DIAGONAL = (float) (1 / Math.sqrt(2));
+
+    /** Размер тайла в пикселях мира */
+    private final double tileSize;
+
+    /** Радиус окна в тайлах */
+    @Getter
+    private final int radius;
+
+    /** Сторона окна в тайлах */
+    private final int size;
+
+    /** Тайл цели и левый верхний тайл окна */
+    @Getter
+    private int targetTx;
+    @Getter
+    private int targetTy;
+    private int originTx;
+    private int originTy;
+
+    private final boolean[] blocked;
+    private final int[] cost;
+    private final float[] dirX;
+    private final float[] dirY;
+
+    /** Двоичная куча Дейкстры: (стоимость << 32) | индекс тайла */
+    private final long[] heap;
+    private int heapSize;
+
+    /** Есть ли в окне хотя бы одно препятствие */
+    private boolean hasObstacles;
+
+    /**
+     * @param tileSize размер тайла в пикселях мира
+     * @param radius   радиус окна в тайлах
+     */
+    public FlowField(double tileSize, int radius) {
+        this.tileSize = tileSize;
+        this.radius = radius;
+        this.size = 2 * radius + 1;
+        int cells = size * size;
+        this.blocked = new boolean[cells];
+        this.cost = new int[cells];
+        this.dirX = new float[cells];
+        this.dirY = new float[cells];
+        this.heap = new long[cells * 8 + 1];
+    }
+
+    /**
+     * Центрирует окно на тайле цели и снимает все препятствия.
+     * После этого нужно отметить препятствия через {@link #block(double, double, double, double)}
+     * и вызвать {@link #build()}.
+     *
+     * @param targetTx тайл цели по X
+     * @param targetTy тайл цели по Y
+     */
+    public void reset(int targetTx, int targetTy) {
+        this.targetTx = targetTx;
+        this.targetTy = targetTy;
+        this.originTx = targetTx - radius;
+        this.originTy = targetTy - radius;
+        Arrays.fill(blocked, false);
+        hasObstacles = false;
+    }
+
+    /**
+     * Отмечает непроходимыми тайлы окна, которые пересекает прямоугольник мира.
+     *
+     * @param minX левая граница в пикселях
+     * @param minY верхняя граница в пикселях
+     * @param maxX правая граница в пикселях
+     * @param maxY нижняя граница в пикселях
+     */
+    public void block(double minX, double minY, double maxX, double maxY) {
+        int fromX = Math.max(0, (int) Math.floor(minX / tileSize) - originTx);
+        int fromY = Math.max(0, (int) Math.floor(minY / tileSize) - originTy);
+        int toX = Math.min(size - 1, (int) Math.floor(maxX / tileSize) - originTx);
+        int toY = Math.min(size - 1, (int) Math.floor(maxY / tileSize) - originTy);
+
+        for (int y = fromY; y <= toY; y++) {
+            for (int x = fromX; x <= toX; x++) {
+                if (x == radius && y == radius) continue; // тайл цели всегда проходим
+                blocked[y * size + x] = true;
+                hasObstacles = true;
+            }
+        }
+    }
+
+    /** Считает стоимости от цели и направления для всех тайлов окна */
+    public void build() {
+        Arrays.fill(cost, UNREACHABLE);
+        Arrays.fill(dirX, 0);
+        Arrays.fill(dirY, 0);
+
+        int start = radius * size + radius;
+        cost[start] = 0;
+        heapSize = 0;
+        push(0, start);
+
+        while (heapSize > 0) {
+            long top = pop();
+            int current = (int) top;
+            int currentCost = (int) (top >>> 32);
+            if (currentCost > cost[current]) continue; // устаревшая запись
+
+            int x = current % size;
+            int y = current / size;
+            for (int n = 0; n < NEIGHBOUR_DX.length; n++) {
+                int nx = x + NEIGHBOUR_DX[n];
+                int ny = y + NEIGHBOUR_DY[n];
+                if (!canStep(x, y, nx, ny)) continue;
+
+                int next = ny * size + nx;
+                int nextCost = currentCost + (n < 4 ? STRAIGHT_COST : DIAGONAL_COST);
+                if (nextCost < cost[next]) {
+                    cost[next] = nextCost;
+                    push(nextCost, next);
+                }
+            }
+        }
+
+        for (int i = 0; i < cost.length; i++) {
+            if (cost[i] == UNREACHABLE || cost[i] == 0) continue;
+            pointDownhill(i);
+        }
+    }
+
+    /**
+     * Индекс тайла окна по мировым координатам.
+     *
+     * @param worldX координата X в пикселях
+     * @param worldY координата Y в пикселях
+     * @return индекс тайла или {@code -1}, если точка вне окна
+     */
+    public int cellAt(double worldX, double worldY) {
+        int x = (int) Math.floor(worldX / tileSize) - originTx;
+        int y = (int) Math.floor(worldY / tileSize) - originTy;
+        if (x < 0 || y < 0 || x >= size || y >= size) return -1;
+        return y * size + x;
+    }
+
+    /** Есть ли в окне хотя бы одно препятствие; без них поле совпадает с прямой к цели */
+    public boolean hasObstacles() {
+        return hasObstacles;
+    }
+
+    /** Стоимость пути от тайла до цели ({@link #UNREACHABLE}, если пути нет) */
+    public int getCost(int cell) {
+        return cost[cell];
+    }
+
+    /** Направление от тайла к цели по X (единичный вектор) */
+    public float getDirX(int cell) {
+        return dirX[cell];
+    }
+
+    /** Направление от тайла к цели по Y (единичный вектор) */
+    public float getDirY(int cell) {
+        return dirY[cell];
+    }
+
+    /** Направляет тайл к соседу с наименьшей стоимостью */
+    private void pointDownhill(int cell) {
+        int x = cell % size;
+        int y = cell / size;
+        int best = cost[cell];
+        int bestN = -1;
+        for (int n = 0; n < NEIGHBOUR_DX.length; n++) {
+            int nx = x + NEIGHBOUR_DX[n];
+            int ny = y + NEIGHBOUR_DY[n];
+            if (!canStep(x, y, nx, ny)) continue;
+            int c = cost[ny * size + nx];
+            if (c < best) {
+                best = c;
+                bestN = n;
+            }
+        }
+        if (bestN < 0) return;
+        float scale = bestN < 4 ? 1f : DIAGONAL;
+        dirX[cell] = NEIGHBOUR_DX[bestN] * scale;
+        dirY[cell] = NEIGHBOUR_DY[bestN] * scale;
+    }
+
+    /** Можно ли шагнуть в соседний тайл: он в окне, свободен и диагональ не срезает угол препятствия */
+    private boolean canStep(int x, int y, int nx, int ny) {
+        if (nx < 0 || ny < 0 || nx >= size || ny >= size) return false;
+        if (blocked[ny * size + nx]) return false;
+        if (nx != x && ny != y) {
+            return !blocked[y * size + nx] && !blocked[ny * size + x];
+        }
+        return true;
+    }
+
+    private void push(int priority, int cell) {
+        int i = heapSize++;
+        long value = ((long) priority << 32) | cell;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (heap[parent] <= value) break;
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = value;
+    }
+
+    private long pop() {
+        long result = heap[0];
+        long last = heap[--heapSize];
+        int i = 0;
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= heapSize) break;
+            if (child + 1 < heapSize && heap[child + 1] < heap[child]) child++;
+            if (heap[child] >= last) break;
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = last;
+        return result;
+    }
+}
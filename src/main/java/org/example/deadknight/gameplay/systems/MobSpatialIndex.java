@@ -0,0 +1,36 @@
+package org.example.deadknight.gameplay.systems;
+
+import com.almasb.fxgl.dsl.FXGL;
+import org.example.deadknight.gameplay.actors.mobs.entities.types.EntityType;
+
+/**
+ * Общий пространственный индекс враждебных мобов ({@link EntityType#HOSTILE_MOB}).
+ *
+ * <p>Перестраивается один раз за кадр из {@code GameWorldManager.update()}, после чего
+ * системы (например, {@link SeparationSystem}) ищут соседей только в ближайших ячейках
+ * вместо перебора всех мобов. Так число проверок растёт линейно с количеством мобов, а не квадратично.
+ */
+public final class MobSpatialIndex {
+
+    /** Размер ячейки: не меньше радиуса разделения мобов, чтобы запрос затрагивал 2×2–3×3 ячейки */
+    public static final double CELL_SIZE = 64;
+
+    private static final SpatialGrid GRID = new SpatialGrid(CELL_SIZE);
+
+    private MobSpatialIndex() {}
+
+    /** Перестраивает индекс по текущим позициям мобов. Вызывается раз в кадр */
+    public static void rebuild() {
+        GRID.rebuild(FXGL.getGameWorld().getEntitiesByType(EntityType.HOSTILE_MOB));
+    }
+
+    /** Сетка мобов, построенная в текущем кадре */
+    public static SpatialGrid getGrid() {
+        return GRID;
+    }
+
+    /** Очищает индекс, например при перезапуске игры */
+    public static void clear() {
+        GRID.clear();
+    }
+}
@@ -0,0 +1,122 @@
+package org.example.deadknight.gameplay.systems;
+
+import com.almasb.fxgl.dsl.FXGL;
+import com.almasb.fxgl.entity.Entity;
+import com.almasb.fxgl.entity.components.BoundingBoxComponent;
+import org.example.deadknight.gameplay.actors.mobs.entities.types.EntityType;
+import org.example.deadknight.infrastructure.generation.BattlefieldBackgroundGenerator;
+
+/**
+ * Общее поле направлений к игроку для всех мобов.
+ *
+ * <p>Вместо того чтобы каждый гоблин сам прокладывал путь к игроку, поле строится
+ * один раз на тайловой сетке вокруг игрока ({@link FlowField}) и перестраивается только когда
+ * игрок переходит в другой тайл (или раз в {@link #OBSTACLE_REFRESH_SECONDS} — чтобы учесть
+ * появившиеся и убранные препятствия). Моб берёт направление одним обращением к массиву
+ * через {@link #steer(Entity, Entity, double[])}.
+ *
+ * <p>Препятствия — сущности {@link EntityType#SPIKES}. Пока в окне нет ни одного препятствия,
+ * поле не нужно: прямая к игроку и есть кратчайший путь, поэтому мобы идут прямо, как раньше.
+ */
+public final class PlayerFlowField {
+
+    /** Радиус окна поля в тайлах: 48 тайлов по 128 px покрывают больше экрана при любом зуме */
+    public static final int RADIUS_TILES = 48;
+
+    /** Как часто перечитывать препятствия, если игрок стоит в одном тайле */
+    private static final double OBSTACLE_REFRESH_SECONDS = 1.0;
+
+    private static FlowField field;
+
+    /** Игрок, к которому построено поле, и его тайл */
+    private static Entity target;
+    private static int targetTx;
+    private static int targetTy;
+    private static boolean built;
+    private static double sinceRefresh;
+
+    private PlayerFlowField() {}
+
+    /**
+     * Перестраивает поле, если игрок сменил тайл или пора перечитать препятствия.
+     * Вызывается раз в кадр из {@code GameWorldManager.update()}.
+     *
+     * @param player сущность игрока
+     * @param tpf    время кадра в секундах
+     */
+    public static void update(Entity player, double tpf) {
+        if (player == null || !player.isActive()) return;
+
+        int tileSize = BattlefieldBackgroundGenerator.tileSize;
+        if (field == null) field = new FlowField(tileSize, RADIUS_TILES);
+
+        BoundingBoxComponent bbox = player.getBoundingBoxComponent();
+        int tx = (int) Math.floor((bbox.getMinXWorld() + bbox.getMaxXWorld()) / 2 / tileSize);
+        int ty = (int) Math.floor((bbox.getMinYWorld() + bbox.getMaxYWorld()) / 2 / tileSize);
+
+        sinceRefresh += tpf;
+        boolean moved = !built || player != target || tx != targetTx || ty != targetTy;
+        if (!moved && sinceRefresh < OBSTACLE_REFRESH_SECONDS) return;
+
+        target = player;
+        targetTx = tx;
+        targetTy = ty;
+        sinceRefresh = 0;
+
+        field.reset(tx, ty);
+        for (Entity obstacle : FXGL.getGameWorld().getEntitiesByType(EntityType.SPIKES)) {
+            BoundingBoxComponent box = obstacle.getBoundingBoxComponent();
+            field.block(box.getMinXWorld(), box.getMinYWorld(), box.getMaxXWorld(), box.getMaxYWorld());
+        }
+        if (field.hasObstacles()) field.build();
+        built = true;
+    }
+
+    /**
+     * Направление движения моба к цели по полю.
+     *
+     * @param mob    моб
+     * @param goal   цель моба
+     * @param outDir массив из двух элементов для единичного вектора направления
+     * @return {@code true}, если направление взято из поля; {@code false} — идти к цели напрямую
+     *         (цель не игрок, препятствий нет, моб вне окна, рядом с игроком или путь не найден)
+     */
+    public static boolean steer(Entity mob, Entity goal, double[] outDir) {
+        if (goal != target) return false;
+
+        BoundingBoxComponent bbox = mob.getBoundingBoxComponent();
+        return steer((bbox.getMinXWorld() + bbox.getMaxXWorld()) / 2,
+                (bbox.getMinYWorld() + bbox.getMaxYWorld()) / 2, outDir);
+    }
+
+    /**
+     * Направление движения к игроку по полю для точки мира — для мобов без сущности (орда).
+     * Только читает поле, поэтому безопасен для вызова из нескольких потоков между вызовами {@link #update}.
+     *
+     * @param x      центр моба по X
+     * @param y      центр моба по Y
+     * @param outDir массив из двух элементов для единичного вектора направления
+     * @return {@code true}, если направление взято из поля; {@code false} — идти к игроку напрямую
+     */
+    public static boolean steer(double x, double y, double[] outDir) {
+        if (!built || !field.hasObstacles()) return false;
+
+        int cell = field.cellAt(x, y);
+        if (cell < 0) return false;
+
+        int cost = field.getCost(cell);
+        // в соседних с игроком тайлах точнее идти прямо в центр игрока
+        if (cost == FlowField.UNREACHABLE || cost <= FlowField.DIAGONAL_COST) return false;
+
+        outDir[0] = field.getDirX(cell);
+        outDir[1] = field.getDirY(cell);
+        return true;
+    }
+
+    /** Сбрасывает поле, например при перезапуске игры */
+    public static void clear() {
+        target = null;
+        built = false;
+        sinceRefresh = 0;
+    }
+}
@@ -0,0 +1,188 @@
+package org.example.deadknight.gameplay.systems;
+
+import com.almasb.fxgl.entity.Entity;
+import com.almasb.fxgl.entity.components.BoundingBoxComponent;
+import org.example.deadknight.gameplay.actors.mobs.components.EnemyComponent;
+import org.example.deadknight.gameplay.actors.mobs.entities.types.EntityType;
+import org.example.deadknight.gameplay.components.SeparationComponent;
+import org.example.deadknight.gameplay.systems.types.AiLodTier;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Система разделения (Separation): не даёт мобам и игроку наслаиваться друг на друга.
+ *
+ * <p>Работает пакетно, один раз за кадр из {@code GameWorldManager.update()}:
+ * <ol>
+ *     <li>берёт позиции мобов {@link EntityType#HOSTILE_MOB} из снимка {@link MobSpatialIndex}
+ *         и параметры их {@link SeparationComponent} в плоские массивы;</li>
+ *     <li>считает суммарное смещение каждого моба от соседей в ближайших ячейках сетки —
+ *         только чтением снимка, без {@code Point2D} и без изменения сущностей;</li>
+ *     <li>применяет все смещения одним проходом.</li>
+ * </ol>
+ * Поскольку на втором шаге никто не двигается, результат не зависит от порядка обновления сущностей.
+ * При большом количестве мобов второй шаг делится на блоки и выполняется параллельно.
+ *
+ * <p>Мобы уровня {@link AiLodTier#FAR} сами не отталкиваются, но остаются соседями для остальных.
+ *
+ * <p>Игрок с {@link SeparationComponent} отталкивается от мобов, но сам их не толкает — как и раньше.
+ */
+public class SeparationSystem {
+
+    /** С какого количества мобов имеет смысл считать силы параллельно */
+    private static final int PARALLEL_THRESHOLD = 512;
+
+    /** Мобов в одном параллельном блоке */
+    private static final int BLOCK_SIZE = 256;
+
+    /** Начальный размер буфера соседей */
+    private static final int NEIGHBOUR_BUFFER = 64;
+
+    private double[] minDistance = new double[0];
+    private double[] pushFactor = new double[0];
+    private double[] offsetX = new double[0];
+    private double[] offsetY = new double[0];
+
+    /** Буферы соседей: по одному на параллельный блок, нулевой — для последовательного режима */
+    private int[][] neighbourBuffers = {new int[NEIGHBOUR_BUFFER]};
+
+    /**
+     * Рассчитывает и применяет разделение за кадр.
+     * Должна вызываться после {@link MobSpatialIndex#rebuild()} в том же кадре.
+     *
+     * @param player сущность игрока (может быть {@code null})
+     * @param tpf    время кадра в секундах
+     */
+    public void update(Entity player, double tpf) {
+        SpatialGrid grid = MobSpatialIndex.getGrid();
+        int count = grid.size();
+        ensureCapacity(count);
+
+        for (int i = 0; i < count; i++) {
+            Entity mob = grid.getEntity(i);
+            if (mob.isActive() && mob.hasComponent(SeparationComponent.class) && !isFar(mob)) {
+                SeparationComponent separation = mob.getComponent(SeparationComponent.class);
+                minDistance[i] = separation.getMinDistance();
+                pushFactor[i] = separation.getPushFactor();
+            } else {
+                minDistance[i] = 0; // моб без разделения (или далёкий) не двигается этой системой
+            }
+        }
+
+        if (count >= PARALLEL_THRESHOLD) {
+            int blocks = (count + BLOCK_SIZE - 1) / BLOCK_SIZE;
+            ensureBuffers(blocks);
+            IntStream.range(0, blocks).parallel().forEach(b ->
+                    computeRange(grid, b * BLOCK_SIZE, Math.min(count, (b + 1) * BLOCK_SIZE), tpf, b));
+        } else {
+            computeRange(grid, 0, count, tpf, 0);
+        }
+
+        for (int i = 0; i < count; i++) {
+            if (offsetX[i] != 0 || offsetY[i] != 0) {
+                grid.getEntity(i).translate(offsetX[i], offsetY[i]);
+            }
+        }
+
+        separatePlayer(grid, player, tpf);
+    }
+
+    /** Считает смещения мобов {@code [from, to)}; пишет только в свои ячейки массивов */
+    private void computeRange(SpatialGrid grid, int from, int to, double tpf, int bufferIndex) {
+        for (int i = from; i < to; i++) {
+            offsetX[i] = 0;
+            offsetY[i] = 0;
+            double radius = minDistance[i];
+            if (radius <= 0) continue;
+
+            double x = grid.getX(i);
+            double y = grid.getY(i);
+            int found = queryNeighbours(grid, x, y, radius, bufferIndex);
+            int[] neighbours = neighbourBuffers[bufferIndex];
+
+            double k = tpf * pushFactor[i];
+            for (int n = 0; n < found; n++) {
+                int j = neighbours[n];
+                if (j == i) continue;
+                double dx = x - grid.getX(j);
+                double dy = y - grid.getY(j);
+                double dist = Math.sqrt(dx * dx + dy * dy);
+                if (dist < radius && dist > 0) {
+                    double push = (radius - dist) * k / dist;
+                    offsetX[i] += dx * push;
+                    offsetY[i] += dy * push;
+                }
+            }
+        }
+    }
+
+    /** Отталкивает игрока от ближайших мобов */
+    private void separatePlayer(SpatialGrid grid, Entity player, double tpf) {
+        if (player == null || !player.isActive() || !player.hasComponent(SeparationComponent.class)) return;
+
+        SeparationComponent separation = player.getComponent(SeparationComponent.class);
+        double radius = separation.getMinDistance();
+        BoundingBoxComponent bbox = player.getBoundingBoxComponent();
+        double x = (bbox.getMinXWorld() + bbox.getMaxXWorld()) / 2;
+        double y = (bbox.getMinYWorld() + bbox.getMaxYWorld()) / 2;
+
+        int found = queryNeighbours(grid, x, y, radius, 0);
+        int[] neighbours = neighbourBuffers[0];
+        double k = tpf * separation.getPushFactor();
+        double moveX = 0;
+        double moveY = 0;
+        for (int n = 0; n < found; n++) {
+            int j = neighbours[n];
+            double dx = x - grid.getX(j);
+            double dy = y - grid.getY(j);
+            double dist = Math.sqrt(dx * dx + dy * dy);
+            if (dist < radius && dist > 0) {
+                double push = (radius - dist) * k / dist;
+                moveX += dx * push;
+                moveY += dy * push;
+            }
+        }
+        if (moveX != 0 || moveY != 0) player.translate(moveX, moveY);
+    }
+
+    /**
+     * Ищет соседей в буфер {@code neighbourBuffers[bufferIndex]}. Если толпа плотнее буфера,
+     * буфер удваивается и поиск повторяется, чтобы ни один сосед не выпал из разделения.
+     *
+     * @return количество найденных соседей
+     */
+    private int queryNeighbours(SpatialGrid grid, double x, double y, double radius, int bufferIndex) {
+        int[] neighbours = neighbourBuffers[bufferIndex];
+        int found;
+        while ((found = grid.query(x, y, radius, neighbours)) == neighbours.length) {
+            neighbours = new int[neighbours.length * 2];
+            neighbourBuffers[bufferIndex] = neighbours;
+        }
+        return found;
+    }
+
+    /** Далёкие мобы ({@link AiLodTier#FAR}) не видны, и разделять их незачем */
+    private static boolean isFar(Entity mob) {
+        return mob.hasComponent(EnemyComponent.class)
+                && mob.getComponent(EnemyComponent.class).getLodTier() == AiLodTier.FAR;
+    }
+
+    private void ensureCapacity(int count) {
+        if (minDistance.length >= count) return;
+        int capacity = Math.max(count, minDistance.length * 2);
+        minDistance = new double[capacity];
+        pushFactor = new double[capacity];
+        offsetX = new double[capacity];
+        offsetY = new double[capacity];
+    }
+
+    private void ensureBuffers(int blocks) {
+        if (neighbourBuffers.length >= blocks) return;
+        int old = neighbourBuffers.length;
+        neighbourBuffers = Arrays.copyOf(neighbourBuffers, blocks);
+        for (int b = old; b < blocks; b++) {
+            neighbourBuffers[b] = new int[NEIGHBOUR_BUFFER];
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package org.example.deadknight.gameplay.systems;
+
+import com.almasb.fxgl.entity.Entity;
+import com.almasb.fxgl.entity.components.BoundingBoxComponent;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Равномерная сетка (spatial hash) для поиска соседних сущностей.
+ *
+ * <p>Мир делится на квадратные ячейки размером {@code cellSize}. Координаты ячейки хешируются
+ * в таблицу фиксированного размера, поэтому сетка работает и в бесконечном мире.
+ * Перестройка выполняется раз в кадр сортировкой подсчётом: все данные лежат
+ * в плоских массивах {@code int[]}/{@code double[]}, которые переиспользуются между кадрами.
+ *
+ * <p>Запрос {@link #query(double, double, double, int[])} просматривает только ячейки,
+ * пересекающие квадрат поиска, и возвращает индексы сущностей в буфер вызывающего.
+ * Индексы действительны до следующей перестройки.
+ *
+ * <p>Перестраивается из одного потока. Запрос ничего не пишет в сетку, поэтому между перестройками
+ * запросы можно выполнять из нескольких потоков одновременно (так делает стадия намерений орды).
+ */
+public class SpatialGrid {
+
+    /** Минимальный размер хеш-таблицы корзин (степень двойки) */
+    private static final int MIN_TABLE_SIZE = 256;
+
+    /** Размер ячейки в пикселях мира */
+    private final double cellSize;
+
+    private int count;
+    private Entity[] entities = new Entity[0];
+    private double[] xs = new double[0];
+    private double[] ys = new double[0];
+    private int[] cellXs = new int[0];
+    private int[] cellYs = new int[0];
+    private int[] buckets = new int[0];
+
+    /** Индексы сущностей, отсортированные по корзинам */
+    private int[] sorted = new int[0];
+
+    /** Начало каждой корзины в {@link #sorted}; длина — размер таблицы + 1. До первой перестройки все корзины пусты */
+    private int[] bucketStart = new int[MIN_TABLE_SIZE + 1];
+    private int mask = MIN_TABLE_SIZE - 1;
+
+    /**
+     * @param cellSize размер ячейки; разумно брать не меньше типичного радиуса запроса
+     */
+    public SpatialGrid(double cellSize) {
+        this.cellSize = cellSize;
+    }
+
+    /**
+     * Перестраивает сетку по текущим центрам сущностей.
+     *
+     * @param list сущности, которые нужно разложить по ячейкам
+     */
+    public void rebuild(List<Entity> list) {
+        count = list.size();
+        ensureCapacity(count);
+
+        for (int i = 0; i < count; i++) {
+            Entity e = list.get(i);
+            BoundingBoxComponent bbox = e.getBoundingBoxComponent();
+            entities[i] = e;
+            xs[i] = (bbox.getMinXWorld() + bbox.getMaxXWorld()) / 2;
+            ys[i] = (bbox.getMinYWorld() + bbox.getMaxYWorld()) / 2;
+        }
+        Arrays.fill(entities, count, entities.length, null); // не держим ссылки на удалённые сущности
+
+        index();
+    }
+
+    /**
+     * Перестраивает сетку по точкам без сущностей (например, по мобам орды в массивах).
+     * Индекс точки в сетке совпадает с её индексом в массивах; {@link #getEntity(int)} возвращает {@code null}.
+     *
+     * @param px    координаты X
+     * @param py    координаты Y
+     * @param count количество точек
+     */
+    public void rebuild(double[] px, double[] py, int count) {
+        this.count = count;
+        ensureCapacity(count);
+
+        System.arraycopy(px, 0, xs, 0, count);
+        System.arraycopy(py, 0, ys, 0, count);
+        Arrays.fill(entities, null);
+
+        index();
+    }
+
+    /** Раскладывает точки {@link #xs}/{@link #ys} по корзинам сортировкой подсчётом */
+    private void index() {
+        int tableSize = Math.max(MIN_TABLE_SIZE, Integer.highestOneBit(Math.max(1, count * 2 - 1)) << 1);
+        if (bucketStart.length != tableSize + 1) bucketStart = new int[tableSize + 1];
+        else Arrays.fill(bucketStart, 0);
+        mask = tableSize - 1;
+
+        for (int i = 0; i < count; i++) {
+            int cx = (int) Math.floor(xs[i] / cellSize);
+            int cy = (int) Math.floor(ys[i] / cellSize);
+            cellXs[i] = cx;
+            cellYs[i] = cy;
+            buckets[i] = bucketOf(cx, cy);
+            bucketStart[buckets[i] + 1]++;
+        }
+
+        for (int b = 0; b < tableSize; b++) {
+            bucketStart[b + 1] += bucketStart[b];
+        }
+
+        // раскладываем индексы по корзинам, используя bucketStart как курсоры, затем восстанавливаем начала
+        for (int i = 0; i < count; i++) {
+            sorted[bucketStart[buckets[i]]++] = i;
+        }
+        for (int b = tableSize; b > 0; b--) {
+            bucketStart[b] = bucketStart[b - 1];
+        }
+        bucketStart[0] = 0;
+    }
+
+    /**
+     * Находит сущности, чьи центры лежат в квадрате {@code [x - radius, x + radius] × [y - radius, y + radius]}
+     * на момент последней перестройки. Точную проверку расстояния выполняет вызывающий.
+     *
+     * @param x      центр поиска по X
+     * @param y      центр поиска по Y
+     * @param radius радиус поиска
+     * @param out    буфер для индексов; если мал, заполняется сколько поместится
+     * @return количество найденных индексов (не больше {@code out.length})
+     */
+    public int query(double x, double y, double radius, int[] out) {
+        int minCx = (int) Math.floor((x - radius) / cellSize);
+        int maxCx = (int) Math.floor((x + radius) / cellSize);
+        int minCy = (int) Math.floor((y - radius) / cellSize);
+        int maxCy = (int) Math.floor((y + radius) / cellSize);
+
+        int found = 0;
+        for (int cy = minCy; cy <= maxCy; cy++) {
+            for (int cx = minCx; cx <= maxCx; cx++) {
+                int bucket = bucketOf(cx, cy);
+                for (int k = bucketStart[bucket]; k < bucketStart[bucket + 1]; k++) {
+                    int i = sorted[k];
+                    // в корзину могут попасть другие ячейки с тем же хешем
+                    if (cellXs[i] != cx || cellYs[i] != cy) continue;
+                    if (Math.abs(xs[i] - x) > radius || Math.abs(ys[i] - y) > radius) continue;
+                    if (found == out.length) return found;
+                    out[found++] = i;
+                }
+            }
+        }
+        return found;
+    }
+
+    /** Количество сущностей в сетке */
+    public int size() {
+        return count;
+    }
+
+    /** Сущность по индексу из результата запроса */
+    public Entity getEntity(int index) {
+        return entities[index];
+    }
+
+    /** Центр сущности по X на момент перестройки */
+    public double getX(int index) {
+        return xs[index];
+    }
+
+    /** Центр сущности по Y на момент перестройки */
+    public double getY(int index) {
+        return ys[index];
+    }
+
+    /** Очищает сетку и отпускает ссылки на сущности */
+    public void clear() {
+        Arrays.fill(entities, null);
+        count = 0;
+        Arrays.fill(bucketStart, 0);
+    }
+
+    private int bucketOf(int cx, int cy) {
+        int h = cx * 0x9E3779B1 ^ cy * 0x85EBCA77;
+        return (h ^ (h >>> 15)) & mask;
+    }
+
+    private void ensureCapacity(int needed) {
+        if (entities.length >= needed) return;
+        int capacity = Math.max(needed, entities.length * 2);
+        entities = Arrays.copyOf(entities, capacity);
+        xs = new double[capacity];
+        ys = new double[capacity];
+        cellXs = new int[capacity];
+        cellYs = new int[capacity];
+        buckets = new int[capacity];
+        sorted = new int[capacity];
+    }
+}
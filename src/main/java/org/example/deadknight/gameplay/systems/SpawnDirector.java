@@ -0,0 +1,189 @@
+package org.example.deadknight.gameplay.systems;
+
+import com.almasb.fxgl.app.scene.Viewport;
+import lombok.Getter;
+import org.example.deadknight.gameplay.actors.mobs.service.GoblinPool;
+import org.example.deadknight.gameplay.horde.HordeSystem;
+
+import java.util.SplittableRandom;
+
+/**
+ * Режиссёр спавна орды: бесконечные волны гоблинов с растущей сложностью.
+ *
+ * <p>Вместо таймера на каждого врага режиссёр держит очередь спавна (счётчик ожидающих гоблинов)
+ * и раз в кадр выпускает из неё не больше, чем позволяет бюджет:
+ * <ul>
+ *     <li>темп спавна {@link #BASE_SPAWN_RATE} в секунду, умноженный на сложность;</li>
+ *     <li>не больше {@link #MAX_SPAWNS_PER_FRAME} за кадр;</li>
+ *     <li>не больше {@link #MAX_ALIVE} живых мобов одновременно.</li>
+ * </ul>
+ * Когда очередь опустела, после паузы {@link #WAVE_BREAK_SECONDS} в неё ставится следующая волна,
+ * размер которой растёт на {@link #WAVE_GROWTH} от первой; сложность растёт так же.
+ *
+ * <p>Точки спавна выбираются на периметре видимой области камеры с запасом {@link #SPAWN_MARGIN},
+ * то есть сразу за краем экрана. В ограниченном мире точка остаётся в его границах.
+ * Гоблины берутся из {@link GoblinPool}, а в режиме орды добавляются в {@link HordeSystem}
+ * с лимитом {@link #MAX_ALIVE_HORDE}; на каждого врага не создаются ни таймеры, ни строки.
+ */
+public class SpawnDirector {
+
+    /** Размер первой волны */
+    public static final int FIRST_WAVE_SIZE = 100;
+
+    /** Прирост размера волны и темпа спавна с каждой волной (доля от первой волны) */
+    public static final double WAVE_GROWTH = 0.25;
+
+    /** Пауза между опустевшей очередью и следующей волной, в секундах */
+    public static final double WAVE_BREAK_SECONDS = 10;
+
+    /** Темп спавна первой волны: гоблинов в секунду */
+    public static final double BASE_SPAWN_RATE = 2;
+
+    /** Максимум спавнов за один кадр */
+    public static final int MAX_SPAWNS_PER_FRAME = 4;
+
+    /** Максимум живых мобов; сверх этого спавн ждёт */
+    public static final int MAX_ALIVE = 600;
+
+    /** Максимум живых мобов в режиме орды */
+    public static final int MAX_ALIVE_HORDE = 10_000;
+
+    /** Отступ точки спавна от края экрана: больше спрайта гоблина (140 px), чтобы он появлялся целиком за кадром */
+    public static final double SPAWN_MARGIN = 160;
+
+    /** Сколько раз искать точку за экраном внутри мира, прежде чем прижать её к границе мира */
+    private static final int SPAWN_POINT_ATTEMPTS = 4;
+
+    private final double worldWidth;
+    private final double worldHeight;
+    private final SplittableRandom random = new SplittableRandom();
+
+    /** Орда, в которую спавнятся мобы, или {@code null}, если гоблины — отдельные сущности */
+    private final HordeSystem horde;
+
+    /** Номер текущей волны (0 — волн ещё не было) */
+    @Getter
+    private int wave;
+
+    /** Гоблинов в очереди спавна */
+    @Getter
+    private int queued;
+
+    /** Всего выпущено гоблинов */
+    @Getter
+    private long spawnedTotal;
+
+    /** Накопленный по темпу спавна «кредит» (дробная часть переносится на следующий кадр) */
+    private double spawnCredit;
+
+    /** Время с момента, когда очередь опустела */
+    private double breakTimer = WAVE_BREAK_SECONDS; // первая волна — сразу
+
+    /**
+     * @param worldWidth  ширина мира в пикселях ({@link Double#POSITIVE_INFINITY} для бесконечного мира)
+     * @param worldHeight высота мира в пикселях ({@link Double#POSITIVE_INFINITY} для бесконечного мира)
+     */
+    public SpawnDirector(double worldWidth, double worldHeight) {
+        this(worldWidth, worldHeight, null);
+    }
+
+    /**
+     * @param worldWidth  ширина мира в пикселях ({@link Double#POSITIVE_INFINITY} для бесконечного мира)
+     * @param worldHeight высота мира в пикселях ({@link Double#POSITIVE_INFINITY} для бесконечного мира)
+     * @param horde       орда для спавна мобов или {@code null}
+     */
+    public SpawnDirector(double worldWidth, double worldHeight, HordeSystem horde) {
+        this.worldWidth = worldWidth;
+        this.worldHeight = worldHeight;
+        this.horde = horde;
+    }
+
+    /**
+     * Обновляет волны и выпускает гоблинов по бюджету кадра.
+     * Должен вызываться после {@link MobSpatialIndex#rebuild()}: число живых мобов берётся из снимка.
+     *
+     * @param viewport камера игровой сцены
+     * @param tpf      время кадра в секундах
+     */
+    public void update(Viewport viewport, double tpf) {
+        if (queued == 0) {
+            spawnCredit = 0;
+            breakTimer += tpf;
+            if (breakTimer < WAVE_BREAK_SECONDS) return;
+            startNextWave();
+        }
+
+        spawnCredit += BASE_SPAWN_RATE * getDifficulty() * tpf;
+        int alive = horde != null ? horde.size() : MobSpatialIndex.getGrid().size();
+        int maxAlive = horde != null ? MAX_ALIVE_HORDE : MAX_ALIVE;
+        int budget = Math.min((int) spawnCredit, Math.min(MAX_SPAWNS_PER_FRAME, maxAlive - alive));
+        budget = Math.min(budget, queued);
+        if (budget <= 0) {
+            spawnCredit = Math.min(spawnCredit, MAX_SPAWNS_PER_FRAME); // не копим залп, пока орда упирается в лимит
+            return;
+        }
+
+        double zoom = viewport.getZoom();
+        double minX = viewport.getX() - SPAWN_MARGIN;
+        double minY = viewport.getY() - SPAWN_MARGIN;
+        double width = viewport.getWidth() / zoom + 2 * SPAWN_MARGIN;
+        double height = viewport.getHeight() / zoom + 2 * SPAWN_MARGIN;
+
+        for (int i = 0; i < budget; i++) {
+            spawnOnPerimeter(minX, minY, width, height);
+        }
+        queued -= budget;
+        spawnCredit -= budget;
+        spawnedTotal += budget;
+    }
+
+    /** Множитель сложности текущей волны: 1 для первой, дальше растёт на {@link #WAVE_GROWTH} */
+    public double getDifficulty() {
+        return 1 + WAVE_GROWTH * Math.max(0, wave - 1);
+    }
+
+    /** Ставит в очередь следующую волну */
+    private void startNextWave() {
+        wave++;
+        breakTimer = 0;
+        queued = (int) Math.round(FIRST_WAVE_SIZE * getDifficulty());
+    }
+
+    /** Спавнит гоблина в случайной точке периметра прямоугольника (в пределах мира, если он ограничен) */
+    private void spawnOnPerimeter(double minX, double minY, double width, double height) {
+        double x = 0;
+        double y = 0;
+        for (int attempt = 0; attempt < SPAWN_POINT_ATTEMPTS; attempt++) {
+            double t = random.nextDouble() * 2 * (width + height);
+            if (t < width) {                       // верхняя сторона
+                x = minX + t;
+                y = minY;
+            } else if (t < width + height) {       // правая сторона
+                x = minX + width;
+                y = minY + (t - width);
+            } else if (t < 2 * width + height) {   // нижняя сторона
+                x = minX + (t - width - height);
+                y = minY + height;
+            } else {                               // левая сторона
+                x = minX;
+                y = minY + (t - 2 * width - height);
+            }
+            if (insideWorld(x, y)) break;
+        }
+
+        x = clamp(x, worldWidth);
+        y = clamp(y, worldHeight);
+        if (horde != null) horde.spawn(x, y);
+        else GoblinPool.obtain(x, y);
+    }
+
+    private boolean insideWorld(double x, double y) {
+        if (Double.isInfinite(worldWidth)) return true;
+        return x >= 0 && y >= 0 && x <= worldWidth && y <= worldHeight;
+    }
+
+    private static double clamp(double value, double max) {
+        if (Double.isInfinite(max)) return value;
+        return Math.max(0, Math.min(max, value));
+    }
+}
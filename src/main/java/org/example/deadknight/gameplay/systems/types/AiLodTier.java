@@ -0,0 +1,16 @@
+package org.example.deadknight.gameplay.systems.types;
+
+/**
+ * Уровень детализации ИИ моба (AI LOD), выбираемый по расстоянию до экрана.
+ */
+public enum AiLodTier {
+
+    /** На экране: полное поведение каждый кадр */
+    FULL,
+
+    /** Рядом с экраном: поведение с пониженной частотой, накопленным tpf, без анимации */
+    NEAR,
+
+    /** Далеко за экраном: движение по прямой (dead reckoning) без анимации и разделения */
+    FAR
+}
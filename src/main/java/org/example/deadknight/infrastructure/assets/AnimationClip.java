@@ -0,0 +1,57 @@
+package org.example.deadknight.infrastructure.assets;
+
+import javafx.scene.image.Image;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * Неизменяемый клип анимации: кадры и параметры их отображения.
+ * <p>
+ * Хранит только {@link Image} (без узлов сцены), поэтому один клип безопасно разделяют
+ * все сущности одного типа — каждая сущность показывает кадры в своём единственном {@code ImageView}.
+ */
+@Getter
+public final class AnimationClip {
+
+    /** Кадры клипа; массив не выдаётся наружу, чтобы клип оставался неизменяемым */
+    @Getter(AccessLevel.NONE)
+    private final Image[] frames;
+
+    /** Ширина отображения кадра в пикселях */
+    private final double frameWidth;
+
+    /** Высота отображения кадра в пикселях */
+    private final double frameHeight;
+
+    /** Отражать ли кадры по горизонтали ({@code scaleX = -1}) */
+    private final boolean mirrored;
+
+    /**
+     * @param frames      кадры (копируются)
+     * @param frameWidth  ширина отображения кадра
+     * @param frameHeight высота отображения кадра
+     * @param mirrored    отражать ли кадры по горизонтали
+     */
+    public AnimationClip(Image[] frames, double frameWidth, double frameHeight, boolean mirrored) {
+        if (frames.length == 0) throw new IllegalArgumentException("Клип анимации без кадров");
+        this.frames = frames.clone();
+        this.frameWidth = frameWidth;
+        this.frameHeight = frameHeight;
+        this.mirrored = mirrored;
+    }
+
+    /** Кадр по индексу */
+    public Image getFrame(int index) {
+        return frames[index];
+    }
+
+    /** Количество кадров */
+    public int getFrameCount() {
+        return frames.length;
+    }
+
+    /** Масштаб по X для отображения кадров клипа */
+    public double getScaleX() {
+        return mirrored ? -1 : 1;
+    }
+}
@@ -0,0 +1,34 @@
+package org.example.deadknight.infrastructure.assets;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Общий на весь процесс реестр клипов анимации {@link AnimationClip}.
+ * <p>
+ * Клип загружается один раз при первом обращении по ключу и дальше разделяется всеми сущностями.
+ * Потокобезопасен: клипы можно предзагружать в фоновом потоке, пока идёт экран загрузки.
+ */
+public final class AnimationClipRegistry {
+
+    private static final Map<String, AnimationClip> CLIPS = new ConcurrentHashMap<>();
+
+    private AnimationClipRegistry() {}
+
+    /**
+     * Возвращает клип по ключу, загружая его при первом обращении.
+     *
+     * @param key    уникальный ключ клипа (например, {@code "goblin/walk/right@140"})
+     * @param loader загрузчик клипа; вызывается не более одного раза на ключ
+     * @return общий клип
+     */
+    public static AnimationClip get(String key, Supplier<AnimationClip> loader) {
+        return CLIPS.computeIfAbsent(key, k -> loader.get());
+    }
+
+    /** Количество загруженных клипов */
+    public static int size() {
+        return CLIPS.size();
+    }
+}
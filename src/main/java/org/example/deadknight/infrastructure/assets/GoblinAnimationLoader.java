@@ -1,12 +1,15 @@
 package org.example.deadknight.infrastructure.assets;
 
 import com.almasb.fxgl.dsl.FXGL;
-import javafx.scene.image.ImageView;
+import javafx.scene.image.Image;
 
 import java.util.Arrays;
 
 /**
- * Утилитарный класс для загрузки и подготовки анимационных кадров гоблина.
+ * Утилитарный класс для загрузки и подготовки анимационных клипов гоблина.
+ * <p>
+ * Клипы кэшируются в {@link AnimationClipRegistry}, поэтому повторные вызовы (на каждый спавн)
+ * не создают ни кадров, ни узлов сцены — все гоблины разделяют одни и те же {@link AnimationClip}.
  */
 public class GoblinAnimationLoader {
 
@@ -16,43 +19,42 @@ public class GoblinAnimationLoader {
         this.goblinSize = goblinSize;
     }
 
-    public ImageView[] loadWalkRight() {
-        return loadFrames("goblin/goblin-", 25, false);
+    public AnimationClip loadWalkRight() {
+        return loadClip("goblin/goblin-", 25, false);
     }
 
-    public ImageView[] loadWalkLeft() {
-        return loadFrames("goblin/goblin-", 25, true);
+    public AnimationClip loadWalkLeft() {
+        return loadClip("goblin/goblin-", 25, true);
     }
 
-    public ImageView[] loadAttackRight() {
-        return loadFrames("goblin/goblin_attack-", 15, false);
+    public AnimationClip loadAttackRight() {
+        return loadClip("goblin/goblin_attack-", 15, false);
     }
 
-    public ImageView[] loadAttackLeft() {
-        return loadFrames("goblin/goblin_attack-", 15, true);
+    public AnimationClip loadAttackLeft() {
+        return loadClip("goblin/goblin_attack-", 15, true);
     }
 
-    public ImageView[] loadDeathFrames() {
-        ImageView[] frames = loadFrames("goblin/goblin_death-", 4, false);
-        ImageView last = frames[frames.length - 1];
-        ImageView[] extended = Arrays.copyOf(frames, frames.length + 1);
-        extended[frames.length] = new ImageView(last.getImage());
-        return extended;
+    public AnimationClip loadDeathFrames() {
+        return AnimationClipRegistry.get("goblin/goblin_death@" + goblinSize, () -> {
+            Image[] frames = loadImages("goblin/goblin_death-", 4);
+            Image[] extended = Arrays.copyOf(frames, frames.length + 1);
+            extended[frames.length] = frames[frames.length - 1]; // дублируем последний кадр
+            return new AnimationClip(extended, goblinSize, goblinSize, false);
+        });
     }
 
-    private ImageView[] loadFrames(String prefix, int count, boolean mirrored) {
-        ImageView[] frames = new ImageView[count];
+    private AnimationClip loadClip(String prefix, int count, boolean mirrored) {
+        String key = prefix + (mirrored ? "mirrored" : "") + "@" + goblinSize;
+        return AnimationClipRegistry.get(key,
+                () -> new AnimationClip(loadImages(prefix, count), goblinSize, goblinSize, mirrored));
+    }
+
+    private Image[] loadImages(String prefix, int count) {
+        Image[] frames = new Image[count];
         for (int i = 1; i <= count; i++) {
-            ImageView iv = new ImageView(FXGL.image(prefix + i + ".png"));
-            iv.setFitWidth(goblinSize);
-            iv.setFitHeight(goblinSize);
-            if (mirrored) {
-                iv.setScaleX(-1);
-            }
-            frames[i - 1] = iv;
+            frames[i - 1] = FXGL.image(prefix + i + ".png");
         }
         return frames;
     }
 }
-
-
@@ -0,0 +1,142 @@
+package org.example.deadknight.infrastructure.collections;
+
+import java.util.Arrays;
+
+/**
+ * Множество значений {@code long} с открытой адресацией (линейное пробирование).
+ *
+ * <p>Примитивная замена {@code HashSet<Long>}: добавление, проверка и удаление
+ * не выделяют память, пока таблице не нужно расти.
+ */
+public class LongHashSet {
+
+    private long[] keys;
+    private boolean[] used;
+    private int mask;
+    private int size;
+
+    /** Создаёт множество с начальной ёмкостью по умолчанию */
+    public LongHashSet() {
+        this(16);
+    }
+
+    /**
+     * Создаёт множество, рассчитанное на заданное количество элементов без роста.
+     *
+     * @param expectedSize ожидаемое количество элементов
+     */
+    public LongHashSet(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedSize * 2 - 1)) << 1;
+        allocate(capacity);
+    }
+
+    /**
+     * Добавляет значение.
+     *
+     * @param key значение
+     * @return true, если значения ещё не было
+     */
+    public boolean add(long key) {
+        int slot = mix(key) & mask;
+        while (used[slot]) {
+            if (keys[slot] == key) return false;
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        used[slot] = true;
+        if (++size * 2 > used.length) grow();
+        return true;
+    }
+
+    /**
+     * Проверяет наличие значения.
+     *
+     * @param key значение
+     * @return true, если значение есть во множестве
+     */
+    public boolean contains(long key) {
+        return find(key) >= 0;
+    }
+
+    /**
+     * Удаляет значение.
+     *
+     * @param key значение
+     * @return true, если значение было во множестве
+     */
+    public boolean remove(long key) {
+        int slot = find(key);
+        if (slot < 0) return false;
+
+        int gap = slot;
+        int next = (gap + 1) & mask;
+        while (used[next]) {
+            int home = mix(keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        used[gap] = false;
+        size--;
+        return true;
+    }
+
+    /** Количество элементов */
+    public int size() {
+        return size;
+    }
+
+    /** Пусто ли множество */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** Удаляет все элементы, сохраняя выделенную ёмкость */
+    public void clear() {
+        Arrays.fill(used, false);
+        size = 0;
+    }
+
+    /**
+     * Перемешивает биты ключа перед взятием по маске.
+     * Упакованные координаты отличаются в основном младшими битами каждой половины,
+     * поэтому без перемешивания соседние чанки попадали бы в одни и те же цепочки.
+     *
+     * @param key ключ
+     * @return хеш ключа
+     */
+    static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private int find(long key) {
+        int slot = mix(key) & mask;
+        while (used[slot]) {
+            if (keys[slot] == key) return slot;
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        boolean[] oldUsed = used;
+        allocate(oldUsed.length * 2);
+        for (int i = 0; i < oldUsed.length; i++) {
+            if (!oldUsed[i]) continue;
+            int slot = mix(oldKeys[i]) & mask;
+            while (used[slot]) slot = (slot + 1) & mask;
+            keys[slot] = oldKeys[i];
+            used[slot] = true;
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        used = new boolean[capacity];
+        mask = capacity - 1;
+    }
+}
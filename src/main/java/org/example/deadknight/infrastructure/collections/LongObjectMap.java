@@ -0,0 +1,197 @@
+package org.example.deadknight.infrastructure.collections;
+
+import java.util.Arrays;
+
+/**
+ * Хеш-таблица с ключами {@code long} и открытой адресацией (линейное пробирование).
+ *
+ * <p>В отличие от {@code HashMap<Long, V>} не упаковывает ключи и не создаёт узлы на каждую запись,
+ * поэтому чтение, вставка и удаление существующих ключей не выделяют память.
+ * Память выделяется только при росте таблицы.
+ *
+ * <p>Значения {@code null} не поддерживаются: пустой слот определяется по {@code null} в массиве значений.
+ * Обход выполняется по слотам через {@link #capacity()}, {@link #keyAt(int)} и {@link #valueAt(int)}.
+ *
+ * @param <V> тип значений
+ */
+public class LongObjectMap<V> {
+
+    private long[] keys;
+    private Object[] values;
+    private int mask;
+    private int size;
+
+    /** Создаёт таблицу с начальной ёмкостью по умолчанию */
+    public LongObjectMap() {
+        this(16);
+    }
+
+    /**
+     * Создаёт таблицу, рассчитанную на заданное количество записей без роста.
+     *
+     * @param expectedSize ожидаемое количество записей
+     */
+    public LongObjectMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedSize * 2 - 1)) << 1;
+        allocate(capacity);
+    }
+
+    /**
+     * Возвращает значение по ключу.
+     *
+     * @param key ключ
+     * @return значение или {@code null}, если ключа нет
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        int slot = find(key);
+        return slot < 0 ? null : (V) values[slot];
+    }
+
+    /**
+     * Проверяет наличие ключа.
+     *
+     * @param key ключ
+     * @return true, если ключ есть в таблице
+     */
+    public boolean containsKey(long key) {
+        return find(key) >= 0;
+    }
+
+    /**
+     * Добавляет или заменяет значение.
+     *
+     * @param key   ключ
+     * @param value значение, не {@code null}
+     * @return прежнее значение или {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public V put(long key, V value) {
+        if (value == null) throw new IllegalArgumentException("Значение не может быть null");
+
+        int slot = slotOf(key);
+        while (values[slot] != null) {
+            if (keys[slot] == key) {
+                V old = (V) values[slot];
+                values[slot] = value;
+                return old;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size * 2 > values.length) grow();
+        return null;
+    }
+
+    /**
+     * Удаляет запись по ключу.
+     *
+     * @param key ключ
+     * @return удалённое значение или {@code null}, если ключа не было
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(long key) {
+        int slot = find(key);
+        if (slot < 0) return null;
+
+        V old = (V) values[slot];
+        shiftBack(slot);
+        size--;
+        return old;
+    }
+
+    /** Количество записей */
+    public int size() {
+        return size;
+    }
+
+    /** Пуста ли таблица */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** Удаляет все записи, сохраняя выделенную ёмкость */
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /** Количество слотов таблицы, для обхода через {@link #keyAt(int)} и {@link #valueAt(int)} */
+    public int capacity() {
+        return values.length;
+    }
+
+    /**
+     * Ключ в слоте. Имеет смысл, только если {@link #valueAt(int)} не {@code null}.
+     *
+     * @param slot номер слота
+     * @return ключ
+     */
+    public long keyAt(int slot) {
+        return keys[slot];
+    }
+
+    /**
+     * Значение в слоте.
+     *
+     * @param slot номер слота
+     * @return значение или {@code null}, если слот пуст
+     */
+    @SuppressWarnings("unchecked")
+    public V valueAt(int slot) {
+        return (V) values[slot];
+    }
+
+    private int find(long key) {
+        int slot = slotOf(key);
+        while (values[slot] != null) {
+            if (keys[slot] == key) return slot;
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Удаляет запись из слота, сдвигая назад следующие записи цепочки,
+     * чтобы поиск не требовал «надгробий».
+     */
+    private void shiftBack(int slot) {
+        int gap = slot;
+        int next = (gap + 1) & mask;
+        while (values[next] != null) {
+            int home = slotOf(keys[next]);
+            // запись можно перенести в дыру, если её родной слот не лежит между дырой и текущей позицией
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                values[gap] = values[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        values[gap] = null;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(oldValues.length * 2);
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] == null) continue;
+            int slot = slotOf(oldKeys[i]);
+            while (values[slot] != null) slot = (slot + 1) & mask;
+            keys[slot] = oldKeys[i];
+            values[slot] = oldValues[i];
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+    }
+
+    private int slotOf(long key) {
+        return LongHashSet.mix(key) & mask;
+    }
+}
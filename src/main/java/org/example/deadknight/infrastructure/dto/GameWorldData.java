@@ -12,8 +12,8 @@ import org.example.deadknight.infrastructure.render.services.MapChunkService;
  *
  * @param player         сущность игрока в игровом мире
  * @param mapChunkService сервис, отвечающий за подгрузку и управление чанками карты
- * @param mapWidth        ширина карты в игровых единицах
- * @param mapHeight       высота карты в игровых единицах
+ * @param mapWidth        ширина карты в игровых единицах ({@link Double#POSITIVE_INFINITY} для бесконечного мира)
+ * @param mapHeight       высота карты в игровых единицах ({@link Double#POSITIVE_INFINITY} для бесконечного мира)
  */
 public record GameWorldData(Entity player, MapChunkService mapChunkService, double mapWidth, double mapHeight) {
 }
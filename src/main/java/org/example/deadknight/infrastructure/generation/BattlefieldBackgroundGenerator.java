@@ -4,6 +4,8 @@ import com.almasb.fxgl.dsl.FXGL;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.Pane;
+import org.example.deadknight.infrastructure.map.model.TileMap;
+import org.example.deadknight.infrastructure.map.model.TilePalette;
 
 import java.util.*;
 
@@ -43,6 +45,9 @@ public class BattlefieldBackgroundGenerator {
     /** Источник случайности для повторяемой генерации. */
     private final Random rnd;
 
+    /** Зерно генерации, нужно процедурному источнику бесконечного мира. */
+    private final long seed;
+
 
     /**
      * Пути к вариантам плитки «камня/травы» (нижний слой).
@@ -72,6 +77,7 @@ public class BattlefieldBackgroundGenerator {
         this.tilesX = tilesX;
         this.tilesY = tilesY;
         this.rnd = new Random(seed);
+        this.seed = seed;
     }
 
 
@@ -140,26 +146,27 @@ public class BattlefieldBackgroundGenerator {
     }
 
     /**
-     * Возвращает массив тайлов для рендеринга (нижний слой пола).
+     * Генерирует карту в виде компактной {@link TileMap}: пол и декоративный слой.
+     *
+     * <p>Каждый тайл — индекс в {@link TilePalette}, поэтому карта занимает
+     * два байта на тайл вместо ссылки на {@link Image}. Рельеф строит {@link TerrainGenerator}
+     * по когерентному шуму с биомами, параллельно по чанкам.</p>
+     *
+     * @return карта тайлов с палитрой вариантов
      */
-    public Image[][] getGroundTileArray() {
-        Image[][] tiles = new Image[tilesX][tilesY];
-
-        for (int y = 0; y < tilesY; y++) {
-            for (int x = 0; x < tilesX; x++) {
-                String path = pick(grassVariants, 0.85);
-                tiles[x][y] = loadImage(path);  // ✅ теперь всегда берётся одна из закешированных текстур
-            }
-        }
-
-        return tiles;
+    public TileMap generateTileMap() {
+        return new TerrainGenerator(seed).generate(tilesX, tilesY);
     }
 
-
-    private final Map<String, Image> imageCache = new HashMap<>();
-
-    private Image loadImage(String path) {
-        return imageCache.computeIfAbsent(path, p -> new Image(p));
+    /**
+     * Создаёт бесконечный процедурный источник тайлов на том же генераторе рельефа.
+     * Тайлы не генерируются заранее: каждый вычисляется из зерна и координат, когда нужен чанку.
+     * Размеры генератора при этом не используются.
+     *
+     * @return детерминированный источник тайлов без границ
+     */
+    public ProceduralTileSource createProceduralSource() {
+        return new ProceduralTileSource(new TerrainGenerator(seed));
     }
 
 
@@ -0,0 +1,61 @@
+package org.example.deadknight.infrastructure.generation;
+
+import lombok.Getter;
+
+/**
+ * Биомы поля брани.
+ *
+ * <p>Каждый биом задаёт варианты пола и декоративного слоя поверх него, а также плотность декора.
+ * Варианты, для которых нет текстуры в ресурсах, пропускаются при регистрации в палитре
+ * (см. {@link TerrainGenerator}): пол такого биома берётся из {@link #STONE}, декор просто не ставится.
+ */
+@Getter
+public enum Biome {
+
+    /** Каменистая равнина — основной биом */
+    STONE(
+            new String[]{"map/stone/stone-1.png", "map/stone/stone-2.png"},
+            new String[]{},
+            0
+    ),
+
+    /** Грязевые низины */
+    MUD(
+            new String[]{"map/ground/mud-1.png", "map/ground/mud-2.png"},
+            new String[]{"map/decals/blood-1.png", "map/decals/blood-2.png", "map/decals/blood-3.png"},
+            0.04
+    ),
+
+    /** Перелески */
+    FOREST(
+            new String[]{"map/stone/stone-1.png", "map/stone/stone-2.png"},
+            new String[]{"map/tree/tree-1.png", "map/tree/tree-2.png"},
+            0.3
+    ),
+
+    /** Место сражения: обломки, тела и кровь */
+    BATTLEFIELD(
+            new String[]{"map/stone/stone-2.png", "map/ground/mud-1.png"},
+            new String[]{
+                    "map/debris/rock-1.png", "map/debris/rock-2.png",
+                    "map/bodies/knight-dead-1.png", "map/bodies/knight-dead-2.png", "map/bodies/goblin-dead-1.png",
+                    "map/decals/blood-1.png", "map/decals/blood-2.png", "map/decals/blood-3.png"
+            },
+            0.12
+    );
+
+    /** Пути к вариантам пола, первый выбирается чаще остальных */
+    private final String[] groundPaths;
+
+    /** Пути к вариантам декоративного слоя */
+    private final String[] decorPaths;
+
+    /** Вероятность появления декора на тайле */
+    private final double decorDensity;
+
+    Biome(String[] groundPaths, String[] decorPaths, double decorDensity) {
+        this.groundPaths = groundPaths;
+        this.decorPaths = decorPaths;
+        this.decorDensity = decorDensity;
+    }
+}
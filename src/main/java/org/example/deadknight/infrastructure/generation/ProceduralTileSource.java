@@ -0,0 +1,54 @@
+package org.example.deadknight.infrastructure.generation;
+
+import org.example.deadknight.infrastructure.map.model.TilePalette;
+import org.example.deadknight.infrastructure.map.model.TileSource;
+
+import java.util.OptionalInt;
+
+/**
+ * Бесконечный детерминированный источник тайлов.
+ *
+ * <p>Тайлы берутся из {@link TerrainGenerator}, где каждый тайл — чистая функция от {@code (seed, x, y)}.
+ * Поэтому содержимое чанка зависит только от {@code (seed, chunkX, chunkY)},
+ * ничего не хранится заранее, а время старта и память не зависят от размера мира.
+ *
+ * <p>Состояние не изменяется после создания, поэтому источник безопасен для рабочих потоков.
+ */
+public class ProceduralTileSource implements TileSource {
+
+    private final TerrainGenerator terrain;
+
+    /**
+     * @param terrain генератор рельефа с зарегистрированной палитрой
+     */
+    public ProceduralTileSource(TerrainGenerator terrain) {
+        this.terrain = terrain;
+    }
+
+    @Override
+    public TilePalette getPalette() {
+        return terrain.getPalette();
+    }
+
+    @Override
+    public short get(int x, int y) {
+        return terrain.ground(x, y);
+    }
+
+    @Override
+    public short getDecor(int x, int y) {
+        return terrain.decor(x, y);
+    }
+
+    /** Бесконечный мир: ширины нет */
+    @Override
+    public OptionalInt getWidthTiles() {
+        return OptionalInt.empty();
+    }
+
+    /** Бесконечный мир: высоты нет */
+    @Override
+    public OptionalInt getHeightTiles() {
+        return OptionalInt.empty();
+    }
+}
@@ -0,0 +1,176 @@
+package org.example.deadknight.infrastructure.generation;
+
+import lombok.Getter;
+import org.example.deadknight.infrastructure.map.model.TileMap;
+import org.example.deadknight.infrastructure.map.model.TilePalette;
+import org.example.deadknight.infrastructure.map.model.TileSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Генератор рельефа на когерентном шуме с биомами.
+ *
+ * <p>Два поля {@link ValueNoise} — «высота» и «влажность» — по порогам делят мир на области
+ * {@link Biome}. Внутри биома вариант пола и наличие декора выбираются хешем координат тайла,
+ * а не общим последовательным {@code Random}. Поэтому каждый тайл — чистая функция
+ * от {@code (seed, x, y)}:
+ * <ul>
+ *     <li>чанки можно генерировать параллельно, и результат не зависит от числа потоков;</li>
+ *     <li>один и тот же генератор используется и для карты фиксированного размера,
+ *         и для ленивого бесконечного мира ({@link ProceduralTileSource}).</li>
+ * </ul>
+ *
+ * <p>После создания состояние не изменяется, поэтому генератор безопасен для рабочих потоков.
+ */
+public class TerrainGenerator {
+
+    /** Вероятность выбрать первый (основной) вариант пола биома */
+    private static final double GROUND_BIAS_KEEP = 0.85;
+
+    /** Пороги шума, разделяющие биомы */
+    private static final double MUD_MOISTURE = 0.62;
+    private static final double FOREST_ELEVATION = 0.6;
+    private static final double BATTLEFIELD_ELEVATION = 0.32;
+
+    /** Размер чанка генерации в тайлах (единица параллельной работы) */
+    private static final int GENERATION_CHUNK = 16;
+
+    /** Соли, разводящие независимые случайные величины одного тайла */
+    private static final long SALT_GROUND = 0x5EED_0001L;
+    private static final long SALT_DECOR = 0x5EED_0002L;
+
+    @Getter
+    private final TilePalette palette = new TilePalette();
+
+    private final long seed;
+    private final ValueNoise elevation;
+    private final ValueNoise moisture;
+
+    /** Идентификаторы вариантов пола по биомам (индекс — {@link Biome#ordinal()}) */
+    private final short[][] groundIds;
+
+    /** Идентификаторы вариантов декора по биомам, пустой массив — без декора */
+    private final short[][] decorIds;
+
+    /**
+     * Создаёт генератор и регистрирует в палитре все варианты, для которых есть текстуры.
+     *
+     * @param seed зерно мира
+     */
+    public TerrainGenerator(long seed) {
+        this.seed = seed;
+        this.elevation = new ValueNoise(seed, 24, 3);
+        this.moisture = new ValueNoise(ValueNoise.mix(seed + 1), 18, 3);
+
+        Biome[] biomes = Biome.values();
+        this.groundIds = new short[biomes.length][];
+        this.decorIds = new short[biomes.length][];
+        short[] stoneIds = registerExisting(Biome.STONE.getGroundPaths());
+        for (Biome biome : biomes) {
+            short[] ground = registerExisting(biome.getGroundPaths());
+            groundIds[biome.ordinal()] = ground.length > 0 ? ground : stoneIds; // нет текстур — обычный камень
+            decorIds[biome.ordinal()] = registerExisting(biome.getDecorPaths());
+        }
+    }
+
+    /**
+     * Определяет биом тайла по порогам шума.
+     *
+     * @param x координата X в тайлах
+     * @param y координата Y в тайлах
+     * @return биом
+     */
+    public Biome biomeAt(int x, int y) {
+        if (moisture.sample(x, y) > MUD_MOISTURE) return Biome.MUD;
+
+        double e = elevation.sample(x, y);
+        if (e > FOREST_ELEVATION) return Biome.FOREST;
+        if (e < BATTLEFIELD_ELEVATION) return Biome.BATTLEFIELD;
+        return Biome.STONE;
+    }
+
+    /**
+     * Вариант пола тайла.
+     *
+     * @param x координата X в тайлах
+     * @param y координата Y в тайлах
+     * @return идентификатор в палитре
+     */
+    public short ground(int x, int y) {
+        return pickGround(groundIds[biomeAt(x, y).ordinal()], x, y);
+    }
+
+    /**
+     * Вариант декора тайла.
+     *
+     * @param x координата X в тайлах
+     * @param y координата Y в тайлах
+     * @return идентификатор в палитре или {@link TileSource#NO_DECOR}
+     */
+    public short decor(int x, int y) {
+        return pickDecor(biomeAt(x, y), x, y);
+    }
+
+    /**
+     * Заполняет карту, разбивая её на чанки по {@link #GENERATION_CHUNK} тайлов,
+     * которые обрабатываются параллельно в общем пуле ForkJoin.
+     * Так как тайлы не зависят друг от друга, результат одинаков при любом числе потоков.
+     *
+     * @param width  ширина карты в тайлах
+     * @param height высота карты в тайлах
+     * @return сгенерированная карта с полом и декором
+     */
+    public TileMap generate(int width, int height) {
+        TileMap map = new TileMap(width, height, palette);
+        int chunksX = (width + GENERATION_CHUNK - 1) / GENERATION_CHUNK;
+        int chunksY = (height + GENERATION_CHUNK - 1) / GENERATION_CHUNK;
+
+        IntStream.range(0, chunksX * chunksY).parallel().forEach(i -> {
+            int startX = (i % chunksX) * GENERATION_CHUNK;
+            int startY = (i / chunksX) * GENERATION_CHUNK;
+            int endX = Math.min(startX + GENERATION_CHUNK, width);
+            int endY = Math.min(startY + GENERATION_CHUNK, height);
+
+            for (int y = startY; y < endY; y++) {
+                for (int x = startX; x < endX; x++) {
+                    Biome biome = biomeAt(x, y);
+                    map.set(x, y, pickGround(groundIds[biome.ordinal()], x, y));
+                    map.setDecor(x, y, pickDecor(biome, x, y));
+                }
+            }
+        });
+        return map;
+    }
+
+    private short pickGround(short[] ids, int x, int y) {
+        long h = ValueNoise.hash(seed ^ SALT_GROUND, x, y);
+        if (ValueNoise.unit(h) < GROUND_BIAS_KEEP) return ids[0];
+        return ids[(int) ((ValueNoise.mix(h) >>> 33) % ids.length)];
+    }
+
+    private short pickDecor(Biome biome, int x, int y) {
+        short[] ids = decorIds[biome.ordinal()];
+        if (ids.length == 0) return TileSource.NO_DECOR;
+
+        long h = ValueNoise.hash(seed ^ SALT_DECOR, x, y);
+        if (ValueNoise.unit(h) >= biome.getDecorDensity()) return TileSource.NO_DECOR;
+        return ids[(int) ((ValueNoise.mix(h) >>> 33) % ids.length)];
+    }
+
+    /** Регистрирует в палитре только те варианты, текстуры которых есть в ресурсах */
+    private short[] registerExisting(String[] paths) {
+        List<String> existing = new ArrayList<>();
+        for (String path : paths) {
+            if (Thread.currentThread().getContextClassLoader().getResource(path) != null) {
+                existing.add(path);
+            }
+        }
+        short[] ids = new short[existing.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = palette.register(existing.get(i));
+        }
+        return ids;
+    }
+}
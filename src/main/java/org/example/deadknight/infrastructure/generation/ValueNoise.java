@@ -0,0 +1,112 @@
+package org.example.deadknight.infrastructure.generation;
+
+/**
+ * Двумерный когерентный value noise с несколькими октавами (fBm).
+ *
+ * <p>Значения в узлах целочисленной решётки — хеш от {@code (seed, x, y)}, между узлами
+ * они сглаженно интерполируются. В отличие от независимого {@code Random.nextDouble()}
+ * на каждый тайл, соседние точки получают близкие значения, и по порогам шума
+ * образуются связные области (биомы).
+ *
+ * <p>Шум — чистая функция координат без изменяемого состояния: его можно вызывать
+ * из любого количества потоков, результат не зависит от порядка вызовов.
+ */
+public class ValueNoise {
+
+    private final long seed;
+
+    /** Размер самой крупной детали в тайлах */
+    private final double scale;
+
+    /** Количество октав */
+    private final int octaves;
+
+    /**
+     * @param seed    зерно шума
+     * @param scale   размер самой крупной детали в тайлах
+     * @param octaves количество октав (каждая следующая вдвое мельче и вдвое слабее)
+     */
+    public ValueNoise(long seed, double scale, int octaves) {
+        this.seed = seed;
+        this.scale = scale;
+        this.octaves = octaves;
+    }
+
+    /**
+     * Значение шума в точке.
+     *
+     * @param x координата X в тайлах
+     * @param y координата Y в тайлах
+     * @return значение от 0 до 1
+     */
+    public double sample(double x, double y) {
+        double sum = 0;
+        double amplitude = 1;
+        double total = 0;
+        double frequency = 1 / scale;
+
+        for (int octave = 0; octave < octaves; octave++) {
+            sum += amplitude * lattice(seed + octave, x * frequency, y * frequency);
+            total += amplitude;
+            amplitude *= 0.5;
+            frequency *= 2;
+        }
+        return sum / total;
+    }
+
+    /** Одна октава: билинейная интерполяция значений решётки со сглаживанием smoothstep */
+    private static double lattice(long seed, double x, double y) {
+        int x0 = (int) Math.floor(x);
+        int y0 = (int) Math.floor(y);
+        double fx = smooth(x - x0);
+        double fy = smooth(y - y0);
+
+        double v00 = unit(hash(seed, x0, y0));
+        double v10 = unit(hash(seed, x0 + 1, y0));
+        double v01 = unit(hash(seed, x0, y0 + 1));
+        double v11 = unit(hash(seed, x0 + 1, y0 + 1));
+
+        double top = v00 + (v10 - v00) * fx;
+        double bottom = v01 + (v11 - v01) * fx;
+        return top + (bottom - top) * fy;
+    }
+
+    private static double smooth(double t) {
+        return t * t * (3 - 2 * t);
+    }
+
+    /**
+     * Хеш целочисленных координат с учётом зерна.
+     * Отрицательные координаты допустимы и дают независимые значения.
+     *
+     * @param seed зерно
+     * @param x    координата X
+     * @param y    координата Y
+     * @return 64-битный хеш
+     */
+    public static long hash(long seed, int x, int y) {
+        return mix(seed ^ mix(((long) x << 32) ^ (y & 0xFFFFFFFFL)));
+    }
+
+    /**
+     * Переводит хеш в число от 0 (включительно) до 1 (не включительно).
+     *
+     * @param hash 64-битный хеш
+     * @return равномерно распределённое число
+     */
+    public static double unit(long hash) {
+        return (hash >>> 11) * 0x1.0p-53; // старшие 53 бита -> [0, 1)
+    }
+
+    /**
+     * Финализатор SplitMix64: хорошо перемешивает биты за несколько операций.
+     *
+     * @param z исходное значение
+     * @return перемешанное значение
+     */
+    public static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.deadknight.infrastructure.map.io;
+
+/**
+ * Описание бинарного формата файла карты (порядок байт — big-endian).
+ *
+ * <pre>
+ * Заголовок:
+ *   int    MAGIC            "DKMP"
+ *   short  VERSION
+ *   int    width            ширина карты в тайлах
+ *   int    height           высота карты в тайлах
+ *   int    chunkSize        сторона чанка хранения в тайлах
+ * Палитра:
+ *   int    count
+ *   count × (short length, byte[length] путь в UTF-8)
+ * Таблица чанков (chunksX × chunksY записей, построчно):
+ *   long   offset           смещение данных чанка от начала файла
+ *   int    length           длина данных чанка в байтах
+ * Данные чанка:
+ *   слой пола, затем слой декора; каждый слой — тайлы чанка построчно,
+ *   сжатые RLE-парами (short id, short runLength), серия может переходить на следующую строку
+ * </pre>
+ *
+ * <p>Таблица смещений позволяет читать чанки независимо: загрузчик декодирует
+ * только те чанки, которые запрашивает рендер.
+ */
+public final class MapFileFormat {
+
+    private MapFileFormat() {}
+
+    /** Сигнатура файла: ASCII "DKMP" */
+    public static final int MAGIC = 0x444B4D50;
+
+    /** Текущая версия формата */
+    public static final short VERSION = 1;
+
+    /** Размер записи таблицы чанков в байтах (long offset + int length) */
+    public static final int CHUNK_ENTRY_BYTES = Long.BYTES + Integer.BYTES;
+
+    /** Максимальная длина одной RLE-серии */
+    public static final int MAX_RUN = Short.MAX_VALUE;
+}
@@ -0,0 +1,131 @@
+package org.example.deadknight.infrastructure.map.io;
+
+import org.example.deadknight.infrastructure.map.model.TileMap;
+import org.example.deadknight.services.exceptions.MapSaveException;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+/**
+ * Сохраняет {@link TileMap} в бинарный формат {@link MapFileFormat}.
+ *
+ * <p>Данные каждого чанка сжимаются RLE отдельно, а их смещения записываются в таблицу,
+ * чтобы загрузчик мог читать чанки по одному. Файл сначала пишется во временный,
+ * а затем атомарно заменяет целевой, чтобы оборванная запись не оставила битую карту.
+ */
+public class MapFileWriter {
+
+    /** Сторона чанка хранения в тайлах */
+    private final int chunkSize;
+
+    /**
+     * @param chunkSize сторона чанка хранения в тайлах
+     */
+    public MapFileWriter(int chunkSize) {
+        if (chunkSize <= 0) throw new IllegalArgumentException("Размер чанка должен быть положительным: " + chunkSize);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Записывает карту в файл.
+     *
+     * @param map  карта тайлов
+     * @param path путь к файлу карты
+     * @throws MapSaveException если файл не удалось записать
+     */
+    public void write(TileMap map, Path path) {
+        int chunksX = (map.getWidth() + chunkSize - 1) / chunkSize;
+        int chunksY = (map.getHeight() + chunkSize - 1) / chunkSize;
+
+        try {
+            byte[] header = encodeHeader(map);
+            long dataStart = header.length + (long) chunksX * chunksY * MapFileFormat.CHUNK_ENTRY_BYTES;
+
+            ByteArrayOutputStream data = new ByteArrayOutputStream();
+            DataOutputStream dataOut = new DataOutputStream(data);
+            long[] offsets = new long[chunksX * chunksY];
+            int[] lengths = new int[chunksX * chunksY];
+
+            for (int cy = 0; cy < chunksY; cy++) {
+                for (int cx = 0; cx < chunksX; cx++) {
+                    int index = cy * chunksX + cx;
+                    offsets[index] = dataStart + data.size();
+                    int before = data.size();
+                    writeLayer(dataOut, map.getTiles(), map, cx, cy);
+                    writeLayer(dataOut, map.getDecor(), map, cx, cy);
+                    lengths[index] = data.size() - before;
+                }
+            }
+
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) Files.createDirectories(parent);
+            Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.write(header);
+                for (int i = 0; i < offsets.length; i++) {
+                    out.writeLong(offsets[i]);
+                    out.writeInt(lengths[i]);
+                }
+                data.writeTo(out);
+            }
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new MapSaveException("Не удалось сохранить карту в " + path, e);
+        }
+    }
+
+    /** Заголовок и палитра */
+    private byte[] encodeHeader(TileMap map) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MapFileFormat.MAGIC);
+        out.writeShort(MapFileFormat.VERSION);
+        out.writeInt(map.getWidth());
+        out.writeInt(map.getHeight());
+        out.writeInt(chunkSize);
+
+        List<String> paths = map.getPalette().getPaths();
+        out.writeInt(paths.size());
+        for (String path : paths) {
+            byte[] utf8 = path.getBytes(StandardCharsets.UTF_8);
+            out.writeShort(utf8.length);
+            out.write(utf8);
+        }
+        return bytes.toByteArray();
+    }
+
+    /** Один слой чанка: тайлы построчно, RLE-пары (id, длина серии) */
+    private void writeLayer(DataOutputStream out, short[] layer, TileMap map, int cx, int cy) throws IOException {
+        int startX = cx * chunkSize;
+        int startY = cy * chunkSize;
+        int endX = Math.min(startX + chunkSize, map.getWidth());
+        int endY = Math.min(startY + chunkSize, map.getHeight());
+
+        short runId = 0;
+        int runLength = 0;
+        for (int y = startY; y < endY; y++) {
+            for (int x = startX; x < endX; x++) {
+                short id = layer[y * map.getWidth() + x];
+                if (runLength > 0 && id == runId && runLength < MapFileFormat.MAX_RUN) {
+                    runLength++;
+                    continue;
+                }
+                if (runLength > 0) {
+                    out.writeShort(runId);
+                    out.writeShort(runLength);
+                }
+                runId = id;
+                runLength = 1;
+            }
+        }
+        if (runLength > 0) {
+            out.writeShort(runId);
+            out.writeShort(runLength);
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package org.example.deadknight.infrastructure.map.io;
+
+import lombok.Getter;
+import org.example.deadknight.infrastructure.map.model.TilePalette;
+import org.example.deadknight.infrastructure.map.model.TileSource;
+import org.example.deadknight.services.exceptions.MapLoadException;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.OptionalInt;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Карта, загруженная из файла формата {@link MapFileFormat} через отображение в память.
+ *
+ * <p>При открытии читаются только заголовок, палитра и таблица смещений, поэтому
+ * даже большая карта открывается мгновенно. Данные чанка хранения декодируются
+ * при первом обращении к его тайлам, а страницы файла подгружает операционная система по мере чтения.
+ *
+ * <p>Источник вызывается из рабочих потоков растеризатора. Отображение читается только
+ * абсолютными методами, не меняющими позицию буфера. Декодированные чанки публикуются через
+ * {@link AtomicReferenceArray}: если два потока одновременно декодируют один чанк,
+ * оба получат одинаковый результат.
+ */
+public class MappedMapFile implements TileSource {
+
+    @Getter
+    private final int width;
+
+    @Getter
+    private final int height;
+
+    /** Сторона чанка хранения в тайлах */
+    @Getter
+    private final int chunkSize;
+
+    @Getter
+    private final TilePalette palette = new TilePalette();
+
+    private final int chunksX;
+
+    /** Отображённое содержимое файла */
+    private final MappedByteBuffer buffer;
+
+    /** Смещение таблицы чанков от начала файла */
+    private final int tableOffset;
+
+    /** Декодированные чанки: [0] — пол, [1] — декор, построчно внутри чанка */
+    private final AtomicReferenceArray<short[][]> decoded;
+
+    private MappedMapFile(MappedByteBuffer buffer) {
+        this.buffer = buffer;
+
+        int pos = 0;
+        if (buffer.getInt(pos) != MapFileFormat.MAGIC) {
+            throw new MapLoadException("Файл не является картой DeadKnight");
+        }
+        pos += Integer.BYTES;
+        short version = buffer.getShort(pos);
+        if (version != MapFileFormat.VERSION) {
+            throw new MapLoadException("Неподдерживаемая версия формата карты: " + version);
+        }
+        pos += Short.BYTES;
+        this.width = buffer.getInt(pos);
+        this.height = buffer.getInt(pos + 4);
+        this.chunkSize = buffer.getInt(pos + 8);
+        pos += 3 * Integer.BYTES;
+        if (width <= 0 || height <= 0 || chunkSize <= 0) {
+            throw new MapLoadException("Некорректные размеры карты: " + width + "x" + height + ", чанк " + chunkSize);
+        }
+
+        int paletteSize = buffer.getInt(pos);
+        pos += Integer.BYTES;
+        for (int i = 0; i < paletteSize; i++) {
+            int length = buffer.getShort(pos) & 0xFFFF;
+            pos += Short.BYTES;
+            byte[] utf8 = new byte[length];
+            buffer.get(pos, utf8);
+            pos += length;
+            palette.register(new String(utf8, StandardCharsets.UTF_8));
+        }
+
+        this.chunksX = (width + chunkSize - 1) / chunkSize;
+        int chunksY = (height + chunkSize - 1) / chunkSize;
+        this.tableOffset = pos;
+        this.decoded = new AtomicReferenceArray<>(chunksX * chunksY);
+
+        long tableEnd = tableOffset + (long) chunksX * chunksY * MapFileFormat.CHUNK_ENTRY_BYTES;
+        if (tableEnd > buffer.capacity()) {
+            throw new MapLoadException("Файл карты обрезан: таблица чанков выходит за конец файла");
+        }
+    }
+
+    /**
+     * Открывает файл карты и отображает его в память.
+     *
+     * @param path путь к файлу карты
+     * @return источник тайлов поверх файла
+     * @throws MapLoadException если файл не удалось открыть или он повреждён
+     */
+    public static MappedMapFile open(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new MapLoadException("Файл карты больше 2 ГБ не поддерживается: " + path);
+            }
+            // отображение остаётся действительным после закрытия канала
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            return new MappedMapFile(buffer);
+        } catch (IOException e) {
+            throw new MapLoadException("Не удалось открыть карту " + path, e);
+        } catch (IndexOutOfBoundsException | BufferUnderflowException e) {
+            throw new MapLoadException("Файл карты повреждён: " + path, e);
+        }
+    }
+
+    @Override
+    public short get(int x, int y) {
+        return tile(0, x, y);
+    }
+
+    @Override
+    public short getDecor(int x, int y) {
+        return tile(1, x, y);
+    }
+
+    @Override
+    public OptionalInt getWidthTiles() {
+        return OptionalInt.of(width);
+    }
+
+    @Override
+    public OptionalInt getHeightTiles() {
+        return OptionalInt.of(height);
+    }
+
+    /** Сколько чанков хранения уже декодировано */
+    public int getDecodedChunkCount() {
+        int count = 0;
+        for (int i = 0; i < decoded.length(); i++) {
+            if (decoded.get(i) != null) count++;
+        }
+        return count;
+    }
+
+    private short tile(int layer, int x, int y) {
+        int cx = x / chunkSize;
+        int cy = y / chunkSize;
+        short[][] chunk = chunk(cy * chunksX + cx, cx, cy);
+        int localW = Math.min(chunkSize, width - cx * chunkSize);
+        return chunk[layer][(y - cy * chunkSize) * localW + (x - cx * chunkSize)];
+    }
+
+    private short[][] chunk(int index, int cx, int cy) {
+        short[][] chunk = decoded.get(index);
+        if (chunk == null) {
+            chunk = decode(index, cx, cy);
+            decoded.compareAndSet(index, null, chunk);
+        }
+        return chunk;
+    }
+
+    /** Декодирует оба слоя чанка хранения из RLE */
+    private short[][] decode(int index, int cx, int cy) {
+        int entry = tableOffset + index * MapFileFormat.CHUNK_ENTRY_BYTES;
+        long offset = buffer.getLong(entry);
+        int length = buffer.getInt(entry + Long.BYTES);
+        if (offset < 0 || length < 0 || offset + length > buffer.capacity()) {
+            throw new MapLoadException("Чанк (" + cx + ", " + cy + ") выходит за пределы файла карты");
+        }
+
+        int tiles = Math.min(chunkSize, width - cx * chunkSize) * Math.min(chunkSize, height - cy * chunkSize);
+        short[][] layers = new short[2][tiles];
+        int pos = (int) offset;
+        int end = (int) (offset + length);
+        for (int layer = 0; layer < layers.length; layer++) {
+            // NO_DECOR допустим только в слое декора: в слое пола он сломал бы атлас при отрисовке
+            short minId = layer == 0 ? 0 : NO_DECOR;
+            int filled = 0;
+            while (filled < tiles) {
+                if (pos + 2 * Short.BYTES > end) {
+                    throw new MapLoadException("Данные чанка (" + cx + ", " + cy + ") обрываются раньше конца слоя");
+                }
+                short id = buffer.getShort(pos);
+                int run = buffer.getShort(pos + Short.BYTES);
+                pos += 2 * Short.BYTES;
+                if (run <= 0 || filled + run > tiles || id < minId || id >= palette.size()) {
+                    throw new MapLoadException("Повреждены данные чанка (" + cx + ", " + cy + ")");
+                }
+                Arrays.fill(layers[layer], filled, filled + run, id);
+                filled += run;
+            }
+        }
+        return layers;
+    }
+}
@@ -0,0 +1,127 @@
+package org.example.deadknight.infrastructure.map.model;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.OptionalInt;
+
+/**
+ * Компактная модель тайловой карты.
+ *
+ * <p>Вместо {@code Image[tilesX][tilesY]} карта хранит плоский массив {@code short[]}
+ * индексов {@link TilePalette} в построчном (row-major) порядке: индекс тайла
+ * {@code (x, y)} равен {@code y * width + x}. Память — два байта на тайл,
+ * а последовательный обход строк остаётся дружелюбным к кешу процессора.
+ *
+ * <p>Одну и ту же модель используют генератор карты, рендер чанков и код сохранения.
+ * Как {@link TileSource} это ограниченный мир: координаты за пределами карты недопустимы.
+ */
+@Getter
+public class TileMap implements TileSource {
+
+    /** Ширина карты в тайлах */
+    private final int width;
+
+    /** Высота карты в тайлах */
+    private final int height;
+
+    /** Палитра вариантов тайлов */
+    private final TilePalette palette;
+
+    /** Идентификаторы тайлов в построчном порядке */
+    private final short[] tiles;
+
+    /** Декоративный слой в том же порядке, {@link TileSource#NO_DECOR} — пусто */
+    private final short[] decor;
+
+    /**
+     * Создаёт пустую карту (все тайлы имеют идентификатор {@code 0}).
+     *
+     * @param width   ширина в тайлах
+     * @param height  высота в тайлах
+     * @param palette палитра вариантов тайлов
+     */
+    public TileMap(int width, int height, TilePalette palette) {
+        this(width, height, palette, new short[width * height]);
+    }
+
+    /**
+     * Создаёт карту поверх готового массива тайлов.
+     *
+     * @param width   ширина в тайлах
+     * @param height  высота в тайлах
+     * @param palette палитра вариантов тайлов
+     * @param tiles   идентификаторы тайлов в построчном порядке, длина {@code width * height}
+     */
+    public TileMap(int width, int height, TilePalette palette, short[] tiles) {
+        if (tiles.length != width * height) {
+            throw new IllegalArgumentException("Ожидалось " + width * height + " тайлов, получено " + tiles.length);
+        }
+        this.width = width;
+        this.height = height;
+        this.palette = palette;
+        this.tiles = tiles;
+        this.decor = new short[width * height];
+        Arrays.fill(decor, NO_DECOR);
+    }
+
+    @Override
+    public OptionalInt getWidthTiles() {
+        return OptionalInt.of(width);
+    }
+
+    @Override
+    public OptionalInt getHeightTiles() {
+        return OptionalInt.of(height);
+    }
+
+    /**
+     * Возвращает идентификатор тайла.
+     *
+     * @param x координата X в тайлах
+     * @param y координата Y в тайлах
+     * @return индекс в палитре
+     */
+    @Override
+    public short get(int x, int y) {
+        return tiles[y * width + x];
+    }
+
+    /**
+     * Устанавливает идентификатор тайла.
+     *
+     * @param x  координата X в тайлах
+     * @param y  координата Y в тайлах
+     * @param id индекс в палитре
+     */
+    public void set(int x, int y, short id) {
+        tiles[y * width + x] = id;
+    }
+
+    @Override
+    public short getDecor(int x, int y) {
+        return decor[y * width + x];
+    }
+
+    /**
+     * Устанавливает декор тайла.
+     *
+     * @param x  координата X в тайлах
+     * @param y  координата Y в тайлах
+     * @param id индекс в палитре или {@link TileSource#NO_DECOR}
+     */
+    public void setDecor(int x, int y, short id) {
+        decor[y * width + x] = id;
+    }
+
+    /**
+     * Проверяет, лежит ли тайл внутри карты.
+     *
+     * @param x координата X в тайлах
+     * @param y координата Y в тайлах
+     * @return true, если координаты внутри границ
+     */
+    public boolean inBounds(int x, int y) {
+        return x >= 0 && y >= 0 && x < width && y < height;
+    }
+}
@@ -0,0 +1,93 @@
+package org.example.deadknight.infrastructure.map.model;
+
+import javafx.scene.image.Image;
+import org.example.deadknight.infrastructure.generation.BattlefieldBackgroundGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Палитра тайлов карты.
+ *
+ * <p>Сопоставляет компактный идентификатор тайла ({@code short}) с путём к текстуре.
+ * Карта {@link TileMap} хранит только индексы палитры, а сами {@link Image}
+ * загружаются один раз на вариант и переиспользуются всеми тайлами.
+ */
+public class TilePalette {
+
+    /** Пути к текстурам, индекс в списке — идентификатор тайла */
+    private final List<String> paths = new ArrayList<>();
+
+    /** Загруженные изображения, индекс совпадает с идентификатором тайла */
+    private Image[] images = new Image[0];
+
+    /**
+     * Регистрирует текстуру в палитре.
+     * Повторная регистрация того же пути возвращает уже выданный идентификатор.
+     *
+     * @param path путь до текстуры (относительно ресурсов)
+     * @return идентификатор тайла в палитре
+     */
+    public short register(String path) {
+        int existing = paths.indexOf(path);
+        if (existing >= 0) return (short) existing;
+
+        if (paths.size() > Short.MAX_VALUE) {
+            throw new IllegalStateException("Палитра переполнена: " + paths.size() + " вариантов");
+        }
+        paths.add(path);
+        return (short) (paths.size() - 1);
+    }
+
+    /**
+     * Возвращает путь к текстуре по идентификатору тайла.
+     *
+     * @param id идентификатор тайла
+     * @return путь до текстуры
+     */
+    public String getPath(int id) {
+        return paths.get(id);
+    }
+
+    /**
+     * Возвращает изображение тайла, загружая его при первом обращении.
+     * Изображение сразу масштабируется до {@link BattlefieldBackgroundGenerator#tileSize},
+     * чтобы при отрисовке не требовалось повторное масштабирование.
+     *
+     * @param id идентификатор тайла
+     * @return изображение варианта
+     */
+    public Image getImage(int id) {
+        if (id >= images.length) {
+            Image[] grown = new Image[paths.size()];
+            System.arraycopy(images, 0, grown, 0, images.length);
+            images = grown;
+        }
+        Image image = images[id];
+        if (image == null) {
+            int size = BattlefieldBackgroundGenerator.tileSize;
+            image = new Image(paths.get(id), size, size, false, true);
+            images[id] = image;
+        }
+        return image;
+    }
+
+    /**
+     * Сбрасывает загруженные изображения вариантов.
+     * Вызывается после упаковки палитры в атлас, чтобы пиксели не хранились дважды.
+     * При следующем {@link #getImage(int)} изображение загрузится заново.
+     */
+    public void releaseImages() {
+        images = new Image[0];
+    }
+
+    /** Количество вариантов в палитре */
+    public int size() {
+        return paths.size();
+    }
+
+    /** Список путей палитры (только для чтения), например для сохранения карты */
+    public List<String> getPaths() {
+        return List.copyOf(paths);
+    }
+}
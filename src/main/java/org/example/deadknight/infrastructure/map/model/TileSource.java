@@ -0,0 +1,63 @@
+package org.example.deadknight.infrastructure.map.model;
+
+import java.util.OptionalInt;
+
+/**
+ * Источник тайлов для рендера чанков.
+ *
+ * <p>Реализации:
+ * <ul>
+ *     <li>{@link TileMap} — заранее сгенерированная карта с фиксированными границами;</li>
+ *     <li>{@code ProceduralTileSource} — бесконечный мир, где тайл является чистой функцией
+ *         от зерна и координат и вычисляется только тогда, когда нужен чанку.</li>
+ * </ul>
+ *
+ * <p>Метод {@link #get(int, int)} вызывается из рабочих потоков растеризатора,
+ * поэтому реализации должны быть безопасны для параллельного чтения.
+ */
+public interface TileSource {
+
+    /** Идентификатор «нет декора» в декоративном слое */
+    short NO_DECOR = -1;
+
+    /** Палитра вариантов тайлов */
+    TilePalette getPalette();
+
+    /**
+     * Возвращает идентификатор тайла.
+     * Для ограниченных источников координаты должны лежать внутри {@link #getWidthTiles()} × {@link #getHeightTiles()}.
+     *
+     * @param x координата X в тайлах
+     * @param y координата Y в тайлах
+     * @return индекс в палитре
+     */
+    short get(int x, int y);
+
+    /**
+     * Возвращает идентификатор декора (деревья, обломки, кровь), рисуемого поверх пола.
+     *
+     * @param x координата X в тайлах
+     * @param y координата Y в тайлах
+     * @return индекс в палитре или {@link #NO_DECOR}
+     */
+    short getDecor(int x, int y);
+
+    /**
+     * Ширина в тайлах.
+     *
+     * @return ширина или пустое значение, если мир не ограничен
+     */
+    OptionalInt getWidthTiles();
+
+    /**
+     * Высота в тайлах.
+     *
+     * @return высота или пустое значение, если мир не ограничен
+     */
+    OptionalInt getHeightTiles();
+
+    /** Есть ли у мира границы */
+    default boolean isBounded() {
+        return getWidthTiles().isPresent();
+    }
+}
@@ -2,23 +2,23 @@ package org.example.deadknight.infrastructure.render.model;
 
 import com.almasb.fxgl.entity.Entity;
 import javafx.geometry.Point2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import org.example.deadknight.infrastructure.generation.BattlefieldBackgroundGenerator;
 
-import javafx.scene.canvas.Canvas;
-import javafx.scene.canvas.GraphicsContext;
-
 /**
- * Класс, представляющий чанк карты с Canvas для рендеринга.
+ * Класс, представляющий чанк карты с готовым растровым изображением.
  *
  * <p>Чанк хранит свои координаты на карте, размер в тайлах,
- * канвас для отрисовки тайлов и FXGL Entity для отображения в мире.
+ * изображение, собранное растеризатором вне FX-потока, и FXGL Entity для отображения в мире.
  *
  * <p>Позволяет:
  * <ul>
  *     <li>Присоединять и отсоединять чанк из FXGL мира</li>
- *     <li>Хранить канвас и графический контекст для рендеринга тайлов</li>
+ *     <li>Хранить готовое изображение чанка для повторного использования из кеша</li>
  *     <li>Полностью уничтожать чанк при выгрузке</li>
  * </ul>
  */
@@ -29,33 +29,40 @@ public class Chunk {
     /** Координаты чанка на карте (в чанках, а не в пикселях) */
     private final Point2D coords;
 
+    /** Упакованные координаты чанка, см. {@link ChunkKey} */
+    private final long key;
+
     /** Размер чанка в тайлах */
     private final int size;
 
-    /** Canvas для отрисовки тайлов */
-    private final Canvas canvas;
-
-    /** Графический контекст Canvas */
-    private final GraphicsContext gc;
+    /** Узел, отображающий изображение чанка */
+    private final ImageView view;
 
     /** FXGL-сущность, представляющая чанк в мире */
     private Entity entity;
 
+    /** Соседи в списке использования {@link ChunkCache} */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    Chunk lruPrev;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    Chunk lruNext;
+
     /**
-     * Создает чанк с заданными координатами и размером.
-     * Canvas создается с размером size * tileSize пикселей.
+     * Создает чанк с заданными координатами, размером и готовым изображением.
      *
      * @param cx координата X чанка
      * @param cy координата Y чанка
      * @param size размер чанка в тайлах
+     * @param image изображение чанка, собранное растеризатором
      */
-    public Chunk(int cx, int cy, int size) {
+    public Chunk(int cx, int cy, int size, Image image) {
         this.coords = new Point2D(cx, cy);
+        this.key = ChunkKey.of(cx, cy);
         this.size = size;
-
-        int pixelSize = size * BattlefieldBackgroundGenerator.tileSize;
-        this.canvas = new Canvas(pixelSize, pixelSize);
-        this.gc = canvas.getGraphicsContext2D();
+        this.view = new ImageView(image);
     }
 
     /**
@@ -82,14 +89,26 @@ public class Chunk {
     }
 
     /**
-     * Прикрепляет Canvas как Entity в FXGL-мир.
+     * Оценка памяти, занимаемой пикселями чанка (4 байта на пиксель).
+     *
+     * @return размер в байтах или 0, если изображение уже освобождено
+     */
+    public long getByteSize() {
+        Image image = view.getImage();
+        if (image == null) return 0;
+        return (long) image.getWidth() * (long) image.getHeight() * 4;
+    }
+
+    /**
+     * Прикрепляет изображение чанка как Entity в FXGL-мир.
      * Если Entity уже активна, повторно не создается.
+     * Должен вызываться только из FX-потока.
      */
     public void attach() {
         if (entity == null || !entity.isActive()) {
             entity = com.almasb.fxgl.dsl.FXGL.entityBuilder()
                     .at(getWorldX(), getWorldY())
-                    .view(canvas)
+                    .view(view)
                     .zIndex(-100)
                     .buildAndAttach();
         }
@@ -97,7 +116,7 @@ public class Chunk {
 
     /**
      * Убирает чанк с карты (FXGL мира), но не уничтожает его.
-     * Canvas и графический контекст остаются доступными для кеша.
+     * Изображение остаётся доступным для кеша.
      */
     public void detach() {
         if (entity != null && entity.isActive()) {
@@ -109,12 +128,12 @@ public class Chunk {
      * Полностью уничтожает чанк:
      * <ul>
      *     <li>Удаляет FXGL Entity из мира</li>
-     *     <li>Сбрасывает ссылку на сущность</li>
-     *     <li>Canvas и GC остаются доступными, но могут быть собраны сборщиком мусора</li>
+     *     <li>Сбрасывает ссылку на сущность и изображение</li>
      * </ul>
      */
     public void unload() {
         detach();
         entity = null;
+        view.setImage(null);
     }
 }
@@ -0,0 +1,167 @@
+package org.example.deadknight.infrastructure.render.model;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.example.deadknight.infrastructure.collections.LongObjectMap;
+
+import java.util.function.Consumer;
+
+/**
+ * LRU-кеш отсоединённых чанков с бюджетом памяти в байтах.
+ *
+ * <p>Поиск выполняется по упакованному ключу {@link ChunkKey} в {@link LongObjectMap},
+ * а порядок использования хранится в интрузивном двусвязном списке прямо в {@link Chunk},
+ * поэтому добавление, извлечение и вытеснение не создают объектов.
+ *
+ * <p>Размер кеша считается по {@link Chunk#getByteSize()}: старые чанки вытесняются,
+ * пока суммарный объём пикселей превышает бюджет. Так объём памяти не зависит
+ * от размера тайла и чанка.
+ *
+ * <p>Голова списка — самый старый чанк, хвост — самый свежий.
+ */
+@Getter
+public class ChunkCache {
+
+    /** Бюджет памяти кеша в байтах */
+    private final long budgetBytes;
+
+    /** Текущий объём пикселей в кеше, в байтах */
+    private long usedBytes;
+
+    /** Сколько раз чанк был найден в кеше */
+    private long hits;
+
+    /** Сколько раз чанка не оказалось в кеше */
+    private long misses;
+
+    /** Сколько чанков было вытеснено из-за бюджета */
+    private long evictions;
+
+    /** Вызывается для чанка, вытесненного из кеша */
+    @Getter(AccessLevel.NONE)
+    private final Consumer<Chunk> onEvict;
+
+    @Getter(AccessLevel.NONE)
+    private final LongObjectMap<Chunk> chunks = new LongObjectMap<>(32);
+
+    @Getter(AccessLevel.NONE)
+    private Chunk head;
+
+    @Getter(AccessLevel.NONE)
+    private Chunk tail;
+
+    /**
+     * @param budgetBytes бюджет памяти кеша в байтах
+     * @param onEvict     действие над вытесненным чанком (например, освобождение ресурсов)
+     */
+    public ChunkCache(long budgetBytes, Consumer<Chunk> onEvict) {
+        this.budgetBytes = budgetBytes;
+        this.onEvict = onEvict;
+    }
+
+    /**
+     * Кладёт чанк в кеш как самый свежий.
+     * Пока объём превышает бюджет, вытесняет самые старые чанки.
+     * Только что добавленный чанк не вытесняется, даже если один превышает бюджет.
+     *
+     * @param chunk отсоединённый чанк
+     */
+    public void put(Chunk chunk) {
+        Chunk previous = chunks.put(chunk.getKey(), chunk);
+        if (previous != null) {
+            unlink(previous);
+            usedBytes -= previous.getByteSize();
+        }
+        linkLast(chunk);
+        usedBytes += chunk.getByteSize();
+
+        while (usedBytes > budgetBytes && head != chunk) {
+            Chunk eldest = head;
+            unlink(eldest);
+            chunks.remove(eldest.getKey());
+            usedBytes -= eldest.getByteSize();
+            evictions++;
+            onEvict.accept(eldest);
+        }
+    }
+
+    /**
+     * Извлекает чанк из кеша и учитывает попадание или промах.
+     *
+     * @param key ключ чанка
+     * @return чанк или {@code null}, если его нет в кеше
+     */
+    public Chunk remove(long key) {
+        Chunk chunk = chunks.remove(key);
+        if (chunk == null) {
+            misses++;
+            return null;
+        }
+        unlink(chunk);
+        usedBytes -= chunk.getByteSize();
+        hits++;
+        return chunk;
+    }
+
+    /**
+     * Проверяет наличие чанка без изменения порядка использования и статистики.
+     *
+     * @param key ключ чанка
+     * @return true, если чанк есть в кеше
+     */
+    public boolean containsKey(long key) {
+        return chunks.containsKey(key);
+    }
+
+    /** Количество чанков в кеше */
+    public int size() {
+        return chunks.size();
+    }
+
+    /**
+     * Доля попаданий среди обращений к кешу.
+     *
+     * @return значение от 0 до 1, либо 0, если обращений ещё не было
+     */
+    public double getHitRate() {
+        long total = hits + misses;
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    /**
+     * Очищает кеш, применяя действие к каждому чанку.
+     *
+     * @param action действие над чанком (например, {@link Chunk#unload()})
+     */
+    public void clear(Consumer<Chunk> action) {
+        Chunk chunk = head;
+        while (chunk != null) {
+            Chunk next = chunk.lruNext;
+            chunk.lruPrev = null;
+            chunk.lruNext = null;
+            action.accept(chunk);
+            chunk = next;
+        }
+        head = null;
+        tail = null;
+        usedBytes = 0;
+        chunks.clear();
+    }
+
+    private void linkLast(Chunk chunk) {
+        chunk.lruPrev = tail;
+        chunk.lruNext = null;
+        if (tail != null) tail.lruNext = chunk;
+        else head = chunk;
+        tail = chunk;
+    }
+
+    private void unlink(Chunk chunk) {
+        if (chunk.lruPrev != null) chunk.lruPrev.lruNext = chunk.lruNext;
+        else head = chunk.lruNext;
+        if (chunk.lruNext != null) chunk.lruNext.lruPrev = chunk.lruPrev;
+        else tail = chunk.lruPrev;
+        chunk.lruPrev = null;
+        chunk.lruNext = null;
+    }
+}
@@ -0,0 +1,34 @@
+package org.example.deadknight.infrastructure.render.model;
+
+/**
+ * Упаковка координат чанка в один {@code long}.
+ *
+ * <p>Старшие 32 бита — координата X, младшие — координата Y.
+ * Используется вместо {@link javafx.geometry.Point2D} как ключ в картах чанков,
+ * чтобы поиск чанка в каждом кадре не создавал объектов.
+ */
+public final class ChunkKey {
+
+    private ChunkKey() {}
+
+    /**
+     * Упаковывает координаты чанка.
+     *
+     * @param cx координата X чанка
+     * @param cy координата Y чанка
+     * @return ключ чанка
+     */
+    public static long of(int cx, int cy) {
+        return ((long) cx << 32) | (cy & 0xFFFFFFFFL);
+    }
+
+    /** Координата X чанка из ключа */
+    public static int x(long key) {
+        return (int) (key >> 32);
+    }
+
+    /** Координата Y чанка из ключа */
+    public static int y(long key) {
+        return (int) key;
+    }
+}
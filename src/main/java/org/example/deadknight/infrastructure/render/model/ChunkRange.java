@@ -0,0 +1,93 @@
+package org.example.deadknight.infrastructure.render.model;
+
+import lombok.Getter;
+
+/**
+ * Прямоугольный диапазон координат чанков (границы включительно).
+ *
+ * <p>Объект изменяемый и переиспользуется между кадрами, чтобы расчёт видимой области
+ * не создавал новых объектов.
+ */
+@Getter
+public final class ChunkRange {
+
+    private int minCx;
+    private int minCy;
+    private int maxCx;
+    private int maxCy;
+
+    /** Создаёт пустой диапазон */
+    public ChunkRange() {
+        clear();
+    }
+
+    /**
+     * Задаёт диапазон по мировому прямоугольнику в пикселях.
+     *
+     * @param minX        левая граница в пикселях
+     * @param minY        верхняя граница в пикселях
+     * @param maxX        правая граница в пикселях
+     * @param maxY        нижняя граница в пикселях
+     * @param chunkPixels размер чанка в пикселях
+     */
+    public void setFromWorld(double minX, double minY, double maxX, double maxY, double chunkPixels) {
+        this.minCx = (int) Math.floor(minX / chunkPixels);
+        this.minCy = (int) Math.floor(minY / chunkPixels);
+        this.maxCx = (int) Math.floor(maxX / chunkPixels);
+        this.maxCy = (int) Math.floor(maxY / chunkPixels);
+    }
+
+    /**
+     * Обрезает диапазон по границам карты.
+     *
+     * @param maxChunkX последний допустимый индекс чанка по X
+     * @param maxChunkY последний допустимый индекс чанка по Y
+     */
+    public void clamp(int maxChunkX, int maxChunkY) {
+        minCx = Math.max(minCx, 0);
+        minCy = Math.max(minCy, 0);
+        maxCx = Math.min(maxCx, maxChunkX);
+        maxCy = Math.min(maxCy, maxChunkY);
+    }
+
+    /**
+     * Копирует границы другого диапазона.
+     *
+     * @param other исходный диапазон
+     */
+    public void set(ChunkRange other) {
+        this.minCx = other.minCx;
+        this.minCy = other.minCy;
+        this.maxCx = other.maxCx;
+        this.maxCy = other.maxCy;
+    }
+
+    /** Делает диапазон пустым */
+    public void clear() {
+        minCx = 0;
+        minCy = 0;
+        maxCx = -1;
+        maxCy = -1;
+    }
+
+    /**
+     * Проверяет, входит ли чанк в диапазон.
+     *
+     * @param cx координата X чанка
+     * @param cy координата Y чанка
+     * @return true, если чанк внутри диапазона
+     */
+    public boolean contains(int cx, int cy) {
+        return cx >= minCx && cx <= maxCx && cy >= minCy && cy <= maxCy;
+    }
+
+    /**
+     * Сравнивает границы с другим диапазоном.
+     *
+     * @param other другой диапазон
+     * @return true, если границы совпадают
+     */
+    public boolean sameAs(ChunkRange other) {
+        return minCx == other.minCx && minCy == other.minCy && maxCx == other.maxCx && maxCy == other.maxCy;
+    }
+}
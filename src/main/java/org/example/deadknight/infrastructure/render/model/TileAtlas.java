@@ -0,0 +1,137 @@
+package org.example.deadknight.infrastructure.render.model;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import lombok.Getter;
+import org.example.deadknight.infrastructure.map.model.TilePalette;
+
+/**
+ * Атлас тайлов карты: все варианты палитры, упакованные в один буфер пикселей.
+ *
+ * <p>Варианты раскладываются сеткой, близкой к квадратной, а таблица регионов хранит
+ * смещение каждого варианта внутри атласа. Растеризатор чанков копирует строки
+ * тайлов из одного источника, а добавление нового варианта — это одна запись
+ * в {@link TilePalette}, без отдельных буферов и изображений.
+ *
+ * <p>Пиксели хранятся в формате premultiplied ARGB ({@link PixelFormat#getIntArgbPreInstance()}).
+ * После создания атлас только читается, поэтому его можно использовать из рабочих потоков.
+ */
+@Getter
+public class TileAtlas {
+
+    /** Сторона тайла в пикселях */
+    private final int tileSize;
+
+    /** Количество тайлов в строке атласа */
+    private final int columns;
+
+    /** Ширина атласа в пикселях (шаг строки в {@link #pixels}) */
+    private final int width;
+
+    /** Высота атласа в пикселях */
+    private final int height;
+
+    /** Пиксели атласа, строка за строкой */
+    private final int[] pixels;
+
+    /** Таблица регионов: смещение левого верхнего пикселя варианта в {@link #pixels} */
+    private final int[] regionOffsets;
+
+    private TileAtlas(int tileSize, int variants) {
+        this.tileSize = tileSize;
+        this.columns = Math.max(1, (int) Math.ceil(Math.sqrt(variants)));
+        int rows = Math.max(1, (variants + columns - 1) / columns);
+        this.width = columns * tileSize;
+        this.height = rows * tileSize;
+        this.pixels = new int[width * height];
+        this.regionOffsets = new int[variants];
+    }
+
+    /**
+     * Упаковывает все варианты палитры в атлас.
+     * Изображения берутся из {@link TilePalette#getImage(int)} уже масштабированными до размера тайла.
+     *
+     * @param palette  палитра тайлов
+     * @param tileSize сторона тайла в пикселях
+     * @return готовый атлас
+     */
+    public static TileAtlas pack(TilePalette palette, int tileSize) {
+        TileAtlas atlas = new TileAtlas(tileSize, palette.size());
+        for (int id = 0; id < palette.size(); id++) {
+            int offset = atlas.regionX(id) + atlas.regionY(id) * atlas.width;
+            atlas.regionOffsets[id] = offset;
+
+            Image image = palette.getImage(id);
+            image.getPixelReader().getPixels(0, 0, tileSize, tileSize,
+                    PixelFormat.getIntArgbPreInstance(), atlas.pixels, offset, atlas.width);
+        }
+        palette.releaseImages(); // пиксели теперь живут только в атласе
+        return atlas;
+    }
+
+    /**
+     * Координата X региона варианта в пикселях атласа.
+     *
+     * @param id идентификатор варианта в палитре
+     */
+    public int regionX(int id) {
+        return (id % columns) * tileSize;
+    }
+
+    /**
+     * Координата Y региона варианта в пикселях атласа.
+     *
+     * @param id идентификатор варианта в палитре
+     */
+    public int regionY(int id) {
+        return (id / columns) * tileSize;
+    }
+
+    /**
+     * Копирует тайл из атласа в буфер назначения.
+     *
+     * @param id        идентификатор варианта
+     * @param dst       буфер назначения
+     * @param dstOffset смещение левого верхнего пикселя в буфере назначения
+     * @param dstStride ширина строки буфера назначения в пикселях
+     */
+    public void blit(int id, int[] dst, int dstOffset, int dstStride) {
+        int src = regionOffsets[id];
+        for (int row = 0; row < tileSize; row++) {
+            System.arraycopy(pixels, src + row * width, dst, dstOffset + row * dstStride, tileSize);
+        }
+    }
+
+    /**
+     * Накладывает тайл из атласа поверх буфера с учётом прозрачности (src-over).
+     * Пиксели premultiplied, поэтому результат — {@code src + dst * (1 - srcAlpha)} по каждому каналу.
+     *
+     * @param id        идентификатор варианта
+     * @param dst       буфер назначения
+     * @param dstOffset смещение левого верхнего пикселя в буфере назначения
+     * @param dstStride ширина строки буфера назначения в пикселях
+     */
+    public void blendOver(int id, int[] dst, int dstOffset, int dstStride) {
+        int src = regionOffsets[id];
+        for (int row = 0; row < tileSize; row++) {
+            int s = src + row * width;
+            int d = dstOffset + row * dstStride;
+            for (int col = 0; col < tileSize; col++, s++, d++) {
+                int sp = pixels[s];
+                int sa = sp >>> 24;
+                if (sa == 0) continue;
+                if (sa == 255) {
+                    dst[d] = sp;
+                    continue;
+                }
+                int dp = dst[d];
+                int inv = 255 - sa;
+                int a = sa + ((dp >>> 24) * inv + 127) / 255;
+                int r = ((sp >> 16) & 0xFF) + (((dp >> 16) & 0xFF) * inv + 127) / 255;
+                int g = ((sp >> 8) & 0xFF) + (((dp >> 8) & 0xFF) * inv + 127) / 255;
+                int b = (sp & 0xFF) + ((dp & 0xFF) * inv + 127) / 255;
+                dst[d] = (a << 24) | (r << 16) | (g << 8) | b;
+            }
+        }
+    }
+}
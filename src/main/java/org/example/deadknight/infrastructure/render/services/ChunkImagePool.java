@@ -0,0 +1,83 @@
+package org.example.deadknight.infrastructure.render.services;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+import lombok.Getter;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Пул изображений чанков для повторного использования.
+ *
+ * <p>Изображения чанков, вытесненных из кеша, возвращаются сюда, и растеризатор
+ * перезаписывает их пиксели вместо создания нового {@link WritableImage}.
+ * Пулятся только изображения полного размера: обрезанные чанки у края карты
+ * встречаются редко и просто отбрасываются.
+ *
+ * <p>Изображение попадает в пул только после отсоединения от сцены,
+ * поэтому запись в него из рабочего потока безопасна.
+ */
+public class ChunkImagePool {
+
+    /** Размер изображений, которые принимает пул, в пикселях */
+    private final int imageSize;
+
+    /** Свободные изображения; ограничены по количеству, лишние отбрасываются */
+    private final BlockingQueue<WritableImage> free;
+
+    /** Сколько изображений было взято из пула повторно */
+    @Getter
+    private final AtomicLong reused = new AtomicLong();
+
+    /** Сколько изображений пришлось создать заново */
+    @Getter
+    private final AtomicLong created = new AtomicLong();
+
+    /**
+     * @param imageSize сторона изображения полного чанка в пикселях
+     * @param capacity  максимальное количество свободных изображений
+     */
+    public ChunkImagePool(int imageSize, int capacity) {
+        this.imageSize = imageSize;
+        this.free = new ArrayBlockingQueue<>(capacity);
+    }
+
+    /**
+     * Выдаёт изображение нужного размера: из пула, если размер полный и есть свободное, иначе новое.
+     * Может вызываться из рабочих потоков.
+     *
+     * @param width  ширина в пикселях
+     * @param height высота в пикселях
+     * @return изображение, пиксели которого нужно полностью перезаписать
+     */
+    public WritableImage acquire(int width, int height) {
+        if (width == imageSize && height == imageSize) {
+            WritableImage image = free.poll();
+            if (image != null) {
+                reused.incrementAndGet();
+                return image;
+            }
+        }
+        created.incrementAndGet();
+        return new WritableImage(width, height);
+    }
+
+    /**
+     * Возвращает изображение в пул. Изображения другого размера и излишки отбрасываются.
+     *
+     * @param image изображение отсоединённого чанка
+     */
+    public void release(Image image) {
+        if (image instanceof WritableImage writable
+                && (int) writable.getWidth() == imageSize && (int) writable.getHeight() == imageSize) {
+            free.offer(writable);
+        }
+    }
+
+    /** Отбрасывает все свободные изображения */
+    public void clear() {
+        free.clear();
+    }
+}
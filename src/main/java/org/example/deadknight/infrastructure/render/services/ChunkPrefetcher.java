@@ -0,0 +1,104 @@
+package org.example.deadknight.infrastructure.render.services;
+
+import lombok.Getter;
+
+/**
+ * Предсказатель движения игрока для упреждающей подгрузки чанков.
+ *
+ * <p>Скорость оценивается по смещению позиции между кадрами и сглаживается,
+ * поэтому учитываются любые способы перемещения: WASD, рывок пантеры
+ * ({@code PantherAttackService}) и отталкивание.
+ *
+ * <p>Также ведёт метрику попаданий: чанк считается попаданием, если к моменту
+ * появления в зоне видимости он уже был растеризован заранее, и промахом,
+ * если его пришлось ждать.
+ */
+@Getter
+public class ChunkPrefetcher {
+
+    /** На сколько секунд вперёд предсказывается позиция игрока */
+    public static final double PREFETCH_HORIZON_SECONDS = 0.4;
+
+    /** Минимальная скорость (px/сек), начиная с которой включается упреждение */
+    private static final double MIN_PREFETCH_SPEED = 30;
+
+    /** Коэффициент сглаживания скорости (1 — без сглаживания) */
+    private static final double VELOCITY_SMOOTHING = 0.5;
+
+    /** Сглаженная скорость по X (px/сек) */
+    private double velocityX;
+
+    /** Сглаженная скорость по Y (px/сек) */
+    private double velocityY;
+
+    private double lastX;
+    private double lastY;
+    private boolean tracking;
+
+    /** Сколько чанков было запрошено упреждающе */
+    private long prefetchRequests;
+
+    /** Чанки, которые стали видимыми и уже были готовы благодаря упреждению */
+    private long hits;
+
+    /** Чанки, которые стали видимыми, но ещё не были готовы */
+    private long misses;
+
+    /** Упреждённые чанки, вытесненные из кеша до использования */
+    private long wasted;
+
+    /**
+     * Обновляет оценку скорости по новой позиции игрока.
+     *
+     * @param x   позиция игрока по X
+     * @param y   позиция игрока по Y
+     * @param tpf время кадра в секундах
+     */
+    public void track(double x, double y, double tpf) {
+        if (tracking && tpf > 0) {
+            double rawX = (x - lastX) / tpf;
+            double rawY = (y - lastY) / tpf;
+            velocityX += (rawX - velocityX) * VELOCITY_SMOOTHING;
+            velocityY += (rawY - velocityY) * VELOCITY_SMOOTHING;
+        }
+        lastX = x;
+        lastY = y;
+        tracking = true;
+    }
+
+    /** Двигается ли игрок достаточно быстро, чтобы имело смысл упреждать */
+    public boolean isMoving() {
+        return velocityX * velocityX + velocityY * velocityY > MIN_PREFETCH_SPEED * MIN_PREFETCH_SPEED;
+    }
+
+    /** Расстояние в пикселях, которое игрок пройдёт за горизонт упреждения */
+    public double predictedDistance() {
+        return Math.hypot(velocityX, velocityY) * PREFETCH_HORIZON_SECONDS;
+    }
+
+    public void recordRequest() {
+        prefetchRequests++;
+    }
+
+    public void recordHit() {
+        hits++;
+    }
+
+    public void recordMiss() {
+        misses++;
+    }
+
+    public void recordWasted() {
+        wasted++;
+    }
+
+    /**
+     * Доля чанков, готовых к моменту появления на экране.
+     *
+     * @return значение от 0 до 1, либо 0, если статистики ещё нет
+     */
+    public double getHitRate() {
+        long total = hits + misses;
+        return total == 0 ? 0 : (double) hits / total;
+    }
+}
@@ -0,0 +1,147 @@
+package org.example.deadknight.infrastructure.render.services;
+
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import lombok.Getter;
+import org.example.deadknight.infrastructure.map.model.TileSource;
+import org.example.deadknight.infrastructure.render.model.TileAtlas;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.example.deadknight.infrastructure.generation.BattlefieldBackgroundGenerator.tileSize;
+
+/**
+ * Растеризатор чанков карты вне FX-потока.
+ *
+ * <p>Пиксели чанка собираются в рабочем пуле потоков: строки тайлов копируются
+ * из единого {@link TileAtlas} в общий буфер (декор накладывается поверх пола с учётом прозрачности),
+ * который одним вызовом записывается
+ * в {@link WritableImage}. Готовые изображения складываются в очередь,
+ * а прикрепление к миру выполняет {@link MapChunkService} в FX-потоке.
+ * Если растеризация упала (например, при ошибке чтения карты), в очередь кладётся результат без изображения,
+ * чтобы чанк перестал считаться ожидающим и мог быть запрошен снова.
+ *
+ * <p>Источник тайлов и атлас после создания растеризатора только читаются,
+ * поэтому рабочие потоки не требуют синхронизации.
+ */
+public class ChunkRasterizer {
+
+    /**
+     * Готовый результат растеризации чанка.
+     *
+     * @param image изображение чанка или {@code null}, если растеризация завершилась ошибкой
+     */
+    public record RasterizedChunk(int cx, int cy, WritableImage image) {
+
+        /** Растеризация не удалась: чанк можно запросить снова */
+        public boolean failed() {
+            return image == null;
+        }
+    }
+
+    /** Количество рабочих потоков: оставляем одно ядро FX-потоку */
+    private static final int WORKER_COUNT = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+
+    private final TileSource tileSource;
+
+    /** Пул изображений вытесненных чанков */
+    private final ChunkImagePool imagePool;
+
+    /** Атлас всех вариантов палитры */
+    @Getter
+    private final TileAtlas atlas;
+
+    /** Пул рабочих потоков */
+    private final ExecutorService workers;
+
+    /** Очередь готовых чанков, разбираемая FX-потоком */
+    private final Queue<RasterizedChunk> finished = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Создаёт растеризатор и упаковывает все варианты палитры в атлас.
+     *
+     * @param tileSource источник тайлов (готовая карта или процедурный мир)
+     * @param imagePool  пул изображений для повторного использования
+     */
+    public ChunkRasterizer(TileSource tileSource, ChunkImagePool imagePool) {
+        this.tileSource = tileSource;
+        this.imagePool = imagePool;
+        this.atlas = TileAtlas.pack(tileSource.getPalette(), tileSize);
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(WORKER_COUNT, r -> {
+            Thread t = new Thread(r, "chunk-rasterizer-" + threadIndex.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Ставит чанк в очередь на растеризацию.
+     *
+     * @param cx          координата X чанка
+     * @param cy          координата Y чанка
+     * @param widthTiles  ширина чанка в тайлах
+     * @param heightTiles высота чанка в тайлах
+     */
+    public void submit(int cx, int cy, int widthTiles, int heightTiles) {
+        workers.execute(() -> {
+            WritableImage image = null;
+            try {
+                image = rasterize(cx, cy, widthTiles, heightTiles);
+            } catch (RuntimeException e) {
+                // исключение в пуле потоков иначе пропадёт, а чанк навсегда останется в ожидании
+                System.out.println("[DeadKnight] Не удалось растеризовать чанк (" + cx + ", " + cy + "): " + e);
+            }
+            finished.add(new RasterizedChunk(cx, cy, image));
+        });
+    }
+
+    /**
+     * Забирает следующий готовый чанк.
+     *
+     * @return готовый чанк или {@code null}, если очередь пуста
+     */
+    public RasterizedChunk poll() {
+        return finished.poll();
+    }
+
+    /** Останавливает рабочие потоки и отбрасывает незабранные результаты */
+    public void shutdown() {
+        workers.shutdownNow();
+        finished.clear();
+    }
+
+    /**
+     * Собирает пиксели чанка в буфер и записывает их в изображение из пула или новое.
+     * Выполняется в рабочем потоке.
+     */
+    private WritableImage rasterize(int cx, int cy, int widthTiles, int heightTiles) {
+        int width = widthTiles * tileSize;
+        int height = heightTiles * tileSize;
+        int[] buffer = new int[width * height];
+
+        int startX = cx * MapChunkService.CHUNK_SIZE;
+        int startY = cy * MapChunkService.CHUNK_SIZE;
+
+        for (int ty = 0; ty < heightTiles; ty++) {
+            for (int tx = 0; tx < widthTiles; tx++) {
+                int dstOffset = ty * tileSize * width + tx * tileSize;
+                atlas.blit(tileSource.get(startX + tx, startY + ty), buffer, dstOffset, width);
+
+                short decor = tileSource.getDecor(startX + tx, startY + ty);
+                if (decor != TileSource.NO_DECOR) {
+                    atlas.blendOver(decor, buffer, dstOffset, width); // деревья, обломки, кровь поверх пола
+                }
+            }
+        }
+
+        WritableImage image = imagePool.acquire(width, height);
+        image.getPixelWriter().setPixels(0, 0, width, height, PixelFormat.getIntArgbPreInstance(), buffer, 0, width);
+        return image;
+    }
+}
@@ -1,194 +1,372 @@
 package org.example.deadknight.infrastructure.render.services;
 
-import com.almasb.fxgl.dsl.FXGL;
-import com.almasb.fxgl.entity.Entity;
+import com.almasb.fxgl.app.scene.Viewport;
 import javafx.geometry.Point2D;
-import javafx.scene.canvas.Canvas;
-import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.image.Image;
+import lombok.Getter;
+import org.example.deadknight.config.GameConfig;
+import org.example.deadknight.infrastructure.collections.LongHashSet;
+import org.example.deadknight.infrastructure.collections.LongObjectMap;
+import org.example.deadknight.infrastructure.map.model.TileSource;
 import org.example.deadknight.infrastructure.render.model.Chunk;
+import org.example.deadknight.infrastructure.render.model.ChunkCache;
+import org.example.deadknight.infrastructure.render.model.ChunkKey;
+import org.example.deadknight.infrastructure.render.model.ChunkRange;
 
-import java.util.*;
+import java.util.Arrays;
 
 import static org.example.deadknight.infrastructure.generation.BattlefieldBackgroundGenerator.tileSize;
 
 /**
- * Сервис для управления чанками карты и их рендеринга с использованием Canvas.
+ * Сервис для управления чанками карты и их асинхронного рендеринга.
  *
  * <p>Особенности:
  * <ul>
+ *     <li>Набор чанков считается по реальному прямоугольнику {@link Viewport} с учётом зума.</li>
+ *     <li>Чанки загружаются с запасом {@link #LOAD_MARGIN}, а выгружаются только за пределами
+ *         более широкого запаса {@link #UNLOAD_MARGIN}, чтобы не «дребезжать» на границе.</li>
+ *     <li>Пиксели новых чанков собирает {@link ChunkRasterizer} в рабочих потоках.</li>
+ *     <li>В FX-потоке за кадр прикрепляется не более {@link #MAX_ATTACHES_PER_FRAME} готовых чанков.</li>
+ *     <li>По скорости игрока заранее растеризует чанки, до которых он дойдёт
+ *         за {@link ChunkPrefetcher#PREFETCH_HORIZON_SECONDS} секунды.</li>
  *     <li>Хранит загруженные чанки в loadedChunks.</li>
  *     <li>Перемещает невидимые чанки в LRU-кеш cachedChunks.</li>
- *     <li>Кеш автоматически удаляет старые чанки при превышении CACHE_LIMIT.</li>
+ *     <li>Кеш автоматически удаляет старые чанки при превышении бюджета
+ *         {@link GameConfig#CHUNK_CACHE_BUDGET_BYTES}, а их изображения отдаёт в {@link ChunkImagePool}.</li>
  *     <li>Повторно использует чанки из кеша вместо пересоздания.</li>
+ *     <li>Чанки адресуются упакованными ключами {@link ChunkKey} в примитивных таблицах,
+ *         а если диапазоны не изменились и ничего не ждёт растеризации, кадр пропускается целиком —
+ *         в установившемся режиме сервис не выделяет память.</li>
  * </ul>
  */
 public class MapChunkService {
 
-    private final Image[][] groundTiles;
+    /** Источник тайлов: готовая карта или процедурный бесконечный мир */
+    private final TileSource tileSource;
+
+    /** Ограничен ли мир; для бесконечного мира диапазоны чанков не обрезаются */
+    private final boolean bounded;
+
+    /** Размеры мира в тайлах (только для ограниченного мира) */
     private final int tilesX;
     private final int tilesY;
 
     /** Размер чанка в тайлах */
     public static final int CHUNK_SIZE = 5;
 
-    /** Максимальный размер LRU-кеша */
-    private static final int CACHE_LIMIT = 20;
+    /**
+     * Сколько чанков можно прикрепить к миру за один кадр.
+     * Остальные ждут следующего кадра, чтобы быстрый бег по карте не давал просадок.
+     */
+    private static final int MAX_ATTACHES_PER_FRAME = 2;
+
+    /** Сколько чанков можно упреждающе отправить на растеризацию за кадр */
+    private static final int MAX_PREFETCH_REQUESTS_PER_FRAME = 4;
+
+    /** Максимальное количество шагов вдоль предсказанного пути */
+    private static final int MAX_PREFETCH_STEPS = 6;
+
+    /** Запас вокруг видимой области (в пикселях мира), в котором чанки загружаются */
+    private static final double LOAD_MARGIN = 128;
+
+    /** Запас вокруг видимой области (в пикселях мира), за которым чанки выгружаются */
+    private static final double UNLOAD_MARGIN = 640;
+
+    /**
+     * Минимальный зум, учитываемый при расчёте области.
+     * При большем отдалении края экрана не подгружаются, чтобы не держать сотни чанков в памяти.
+     */
+    private static final double MIN_STREAMING_ZOOM = 0.3;
+
+    /** Размер чанка в пикселях мира */
+    private static final double CHUNK_PIXELS = CHUNK_SIZE * tileSize;
+
+    /** Сколько свободных изображений чанков держать для повторного использования */
+    private static final int IMAGE_POOL_CAPACITY = 8;
+
+    /** Изображения вытесненных чанков для повторного использования */
+    @Getter
+    private final ChunkImagePool imagePool = new ChunkImagePool((CHUNK_SIZE + 1) * tileSize, IMAGE_POOL_CAPACITY);
+
+    /** Растеризатор чанков в рабочих потоках */
+    private final ChunkRasterizer rasterizer;
 
     /** Загруженные в мир чанки */
-    private final Map<Point2D, Chunk> loadedChunks = new HashMap<>();
-
-    /** LRU-кеш чанков, accessOrder=true для автоматического удаления старых */
-    private final Map<Point2D, Chunk> cachedChunks = new LinkedHashMap<>(16, 0.75f, true) {
-        @Override
-        protected boolean removeEldestEntry(Map.Entry<Point2D, Chunk> eldest) {
-            if (size() > CACHE_LIMIT) {
-                eldest.getValue().unload(); // реально освобождаем ресурсы
-                return true; // автоматически удаляем из кеша
-            }
-            return false;
-        }
-    };
+    private final LongObjectMap<Chunk> loadedChunks = new LongObjectMap<>(64);
+
+    /** Чанки, отправленные на растеризацию и ещё не полученные */
+    private final LongHashSet pendingChunks = new LongHashSet(64);
+
+    /** Чанки, запрошенные упреждающе и ещё не ставшие видимыми */
+    private final LongHashSet prefetchedChunks = new LongHashSet(64);
+
+    /** Переиспользуемый буфер ключей чанков, выгружаемых в текущем кадре */
+    private long[] unloadBuffer = new long[64];
 
-    public MapChunkService(Image[][] groundTiles) {
-        this.groundTiles = groundTiles;
-        this.tilesX = groundTiles.length;
-        this.tilesY = groundTiles[0].length;
+    /** Оценка скорости игрока и статистика упреждения */
+    @Getter
+    private final ChunkPrefetcher prefetcher = new ChunkPrefetcher();
+
+    /** Чанки, которые должны быть загружены (видимая область + {@link #LOAD_MARGIN}) */
+    private final ChunkRange loadRange = new ChunkRange();
+
+    /** Чанки, которые ещё можно держать в мире (видимая область + {@link #UNLOAD_MARGIN}) */
+    private final ChunkRange keepRange = new ChunkRange();
+
+    /** Диапазон видимости для одного шага предсказанного пути */
+    private final ChunkRange prefetchRange = new ChunkRange();
+
+    /** Диапазоны, обработанные в прошлом кадре; нужны для раннего выхода */
+    private final ChunkRange lastLoadRange = new ChunkRange();
+    private final ChunkRange lastKeepRange = new ChunkRange();
+
+    /** Последний индекс чанка по X и Y внутри карты (только для ограниченного мира) */
+    private final int maxChunkX;
+    private final int maxChunkY;
+
+    /**
+     * LRU-кеш чанков, старые чанки удаляются автоматически при превышении бюджета памяти.
+     * Попадания, промахи, вытеснения и занятые байты читаются через его геттеры.
+     */
+    @Getter
+    private final ChunkCache cachedChunks = new ChunkCache(GameConfig.CHUNK_CACHE_BUDGET_BYTES, this::evict);
+
+    /**
+     * @param tileSource источник тайлов; для неограниченного источника чанки
+     *                   вычисляются лениво при первом обращении и могут иметь отрицательные координаты
+     */
+    public MapChunkService(TileSource tileSource) {
+        this.tileSource = tileSource;
+        this.bounded = tileSource.isBounded();
+        this.tilesX = tileSource.getWidthTiles().orElse(Integer.MAX_VALUE);
+        this.tilesY = tileSource.getHeightTiles().orElse(Integer.MAX_VALUE);
+        this.maxChunkX = bounded ? (tilesX - 1) / CHUNK_SIZE : Integer.MAX_VALUE;
+        this.maxChunkY = bounded ? (tilesY - 1) / CHUNK_SIZE : Integer.MAX_VALUE;
+        this.rasterizer = new ChunkRasterizer(tileSource, imagePool);
     }
 
-    /** Определяем координаты чанка, где находится игрок */
-    private Point2D getPlayerChunkCoords(double playerX, double playerY) {
-        int tileX = (int) (playerX / tileSize);
-        int tileY = (int) (playerY / tileSize);
-        return new Point2D(tileX / CHUNK_SIZE, tileY / CHUNK_SIZE);
+    /**
+     * Рассчитывает диапазоны загрузки и удержания чанков по области, видимой камерой.
+     * <p>
+     * Видимый прямоугольник мира равен {@code (x, y, width / zoom, height / zoom)}:
+     * при отдалении в кадр попадает больше чанков, при приближении — меньше.
+     *
+     * @param viewport камера игровой сцены
+     */
+    public void calculateVisibleChunks(Viewport viewport) {
+        double zoom = Math.max(viewport.getZoom(), MIN_STREAMING_ZOOM);
+        double minX = viewport.getX();
+        double minY = viewport.getY();
+        double maxX = minX + viewport.getWidth() / zoom;
+        double maxY = minY + viewport.getHeight() / zoom;
+
+        loadRange.setFromWorld(minX - LOAD_MARGIN, minY - LOAD_MARGIN, maxX + LOAD_MARGIN, maxY + LOAD_MARGIN, CHUNK_PIXELS);
+        clampToWorld(loadRange);
+
+        keepRange.setFromWorld(minX - UNLOAD_MARGIN, minY - UNLOAD_MARGIN, maxX + UNLOAD_MARGIN, maxY + UNLOAD_MARGIN, CHUNK_PIXELS);
+        clampToWorld(keepRange);
     }
 
-    /** Рассчитываем видимые чанки вокруг игрока */
-    public Set<Point2D> calculateVisibleChunks(Point2D playerChunk) {
-        Set<Point2D> visible = new HashSet<>();
-        int cxCenter = (int) playerChunk.getX();
-        int cyCenter = (int) playerChunk.getY();
-
-        for (int dx = -2; dx <= 2; dx++) {
-            for (int dy = -1; dy <= 1; dy++) {
-                int cx = cxCenter + dx;
-                int cy = cyCenter + dy;
-                if (cx >= 0 && cy >= 0 && cx * CHUNK_SIZE < tilesX && cy * CHUNK_SIZE < tilesY) {
-                    visible.add(new Point2D(cx, cy));
-                }
-            }
+    /**
+     * Обновляем видимые чанки.
+     * Вызывается каждый кадр из FX-потока.
+     *
+     * @param viewport камера игровой сцены (позиция, размер и зум)
+     * @param tpf      время кадра, нужно для оценки скорости камеры
+     */
+    public void updateVisibleChunks(Viewport viewport, double tpf) {
+        calculateVisibleChunks(viewport);
+
+        // пока камера в пределах тех же чанков, набор загруженных чанков пересчитывать не нужно
+        boolean rangesChanged = !loadRange.sameAs(lastLoadRange) || !keepRange.sameAs(lastKeepRange);
+        if (rangesChanged) {
+            loadNewChunks();
+            lastLoadRange.set(loadRange);
+        }
+
+        prefetchAhead(viewport, tpf);
+
+        if (!pendingChunks.isEmpty()) {
+            attachFinishedChunks();
         }
-        return visible;
-    }
 
-    /** Обновляем видимые чанки */
-    public void updateVisibleChunks(double playerX, double playerY) {
-        Point2D playerChunk = getPlayerChunkCoords(playerX, playerY);
-        Set<Point2D> newVisible = calculateVisibleChunks(playerChunk);
-        loadNewChunks(newVisible);
-        unloadInvisibleChunks(newVisible);
+        if (rangesChanged) {
+            unloadInvisibleChunks();
+            lastKeepRange.set(keepRange);
+        }
     }
 
     /**
-     * Переносит невидимые чанки в кеш.
+     * Переносит чанки за пределами {@link #keepRange} в кеш.
      * Старые чанки в кеше будут автоматически удалены через LRU-механику.
-     *
-     * @param newVisible множество координат чанков, которые должны быть видны
      */
-    private void unloadInvisibleChunks(Set<Point2D> newVisible) {
-        moveInvisibleChunksToCache(newVisible);
+    private void unloadInvisibleChunks() {
+        moveInvisibleChunksToCache();
     }
 
-    /** Переносим невидимые чанки из loadedChunks в cachedChunks */
-    private void moveInvisibleChunksToCache(Set<Point2D> newVisible) {
-        Iterator<Map.Entry<Point2D, Chunk>> it = loadedChunks.entrySet().iterator();
-        while (it.hasNext()) {
-            Map.Entry<Point2D, Chunk> entry = it.next();
-            Point2D coord = entry.getKey();
-            Chunk chunk = entry.getValue();
-
-            if (!newVisible.contains(coord)) {
-                chunk.detach(); // убираем из мира, но не уничтожаем
-                cachedChunks.put(coord, chunk); // перемещаем в кеш
-                it.remove();
+    /**
+     * Переносим невидимые чанки из loadedChunks в cachedChunks.
+     * Ключи сначала собираются в буфер: удаление из таблицы с открытой адресацией
+     * сдвигает записи и ломает обход по слотам.
+     */
+    private void moveInvisibleChunksToCache() {
+        int count = 0;
+        for (int slot = 0; slot < loadedChunks.capacity(); slot++) {
+            if (loadedChunks.valueAt(slot) == null) continue;
+            long key = loadedChunks.keyAt(slot);
+            if (keepRange.contains(ChunkKey.x(key), ChunkKey.y(key))) continue;
+
+            if (count == unloadBuffer.length) {
+                unloadBuffer = Arrays.copyOf(unloadBuffer, count * 2);
             }
+            unloadBuffer[count++] = key;
+        }
+
+        for (int i = 0; i < count; i++) {
+            Chunk chunk = loadedChunks.remove(unloadBuffer[i]);
+            chunk.detach(); // убираем из мира, но не уничтожаем
+            cachedChunks.put(chunk); // перемещаем в кеш
         }
     }
 
-    /** Загружаем новые чанки или достаем их из кеша */
-    private void loadNewChunks(Set<Point2D> newVisible) {
-        for (Point2D coord : newVisible) {
-            if (loadedChunks.containsKey(coord)) continue;
+    /** Освобождает чанк, вытесненный из LRU-кеша, и возвращает его изображение в пул */
+    private void evict(Chunk chunk) {
+        if (prefetchedChunks.remove(chunk.getKey())) prefetcher.recordWasted();
+        Image image = chunk.getView().getImage();
+        chunk.unload(); // отсоединяем изображение от сцены
+        imagePool.release(image);
+    }
 
-            Chunk chunk = cachedChunks.remove(coord); // проверяем кеш
-            if (chunk != null) {
-                chunk.attach(); // добавляем обратно в мир
-            } else {
-                chunk = loadChunk((int) coord.getX(), (int) coord.getY());
+    /**
+     * Достаем чанки из {@link #loadRange} из кеша или отправляем их на растеризацию.
+     * Заодно считает попадания и промахи упреждающей подгрузки.
+     */
+    private void loadNewChunks() {
+        for (int cy = loadRange.getMinCy(); cy <= loadRange.getMaxCy(); cy++) {
+            for (int cx = loadRange.getMinCx(); cx <= loadRange.getMaxCx(); cx++) {
+                long key = ChunkKey.of(cx, cy);
+                if (loadedChunks.containsKey(key)) continue;
+
+                boolean wasPrefetched = prefetchedChunks.remove(key);
+                if (pendingChunks.contains(key)) {
+                    if (wasPrefetched) prefetcher.recordMiss(); // упреждение не успело
+                    continue;
+                }
+
+                Chunk chunk = cachedChunks.remove(key); // проверяем кеш
+                if (chunk != null) {
+                    chunk.attach(); // добавляем обратно в мир
+                    loadedChunks.put(key, chunk);
+                    if (wasPrefetched) prefetcher.recordHit();
+                } else {
+                    requestChunk(cx, cy);
+                    pendingChunks.add(key);
+                    prefetcher.recordMiss();
+                }
             }
-            loadedChunks.put(coord, chunk);
         }
     }
 
-    /** Загружаем чанк с Canvas */
-    private Chunk loadChunk(int cx, int cy) {
-        Chunk chunk = createChunk(cx, cy);
-        renderTiles(chunk, cx, cy);
-        attachEntity(chunk);
-        return chunk;
+    /**
+     * Упреждающе растеризует чанки вдоль предсказанного пути камеры.
+     * <p>
+     * Путь на {@link ChunkPrefetcher#PREFETCH_HORIZON_SECONDS} секунды вперёд делится на шаги
+     * не длиннее чанка; для каждого шага берётся сдвинутый на этот путь диапазон загрузки.
+     * Камера следует за игроком, поэтому её скорость совпадает со скоростью игрока.
+     * Готовые чанки попадают в кеш и прикрепляются мгновенно, когда игрок до них доходит.
+     */
+    private void prefetchAhead(Viewport viewport, double tpf) {
+        prefetcher.track(viewport.getX(), viewport.getY(), tpf);
+        if (!prefetcher.isMoving()) return;
+
+        int steps = (int) Math.min(MAX_PREFETCH_STEPS, Math.ceil(prefetcher.predictedDistance() / CHUNK_PIXELS));
+        int requested = 0;
+
+        for (int step = 1; step <= steps; step++) {
+            double t = ChunkPrefetcher.PREFETCH_HORIZON_SECONDS * step / steps;
+            double dx = prefetcher.getVelocityX() * t;
+            double dy = prefetcher.getVelocityY() * t;
+
+            prefetchRange.setFromWorld(
+                    loadRange.getMinCx() * CHUNK_PIXELS + dx,
+                    loadRange.getMinCy() * CHUNK_PIXELS + dy,
+                    (loadRange.getMaxCx() + 1) * CHUNK_PIXELS - 1 + dx,
+                    (loadRange.getMaxCy() + 1) * CHUNK_PIXELS - 1 + dy,
+                    CHUNK_PIXELS
+            );
+            clampToWorld(prefetchRange);
+
+            for (int cy = prefetchRange.getMinCy(); cy <= prefetchRange.getMaxCy(); cy++) {
+                for (int cx = prefetchRange.getMinCx(); cx <= prefetchRange.getMaxCx(); cx++) {
+                    if (requested >= MAX_PREFETCH_REQUESTS_PER_FRAME) return;
+                    if (loadRange.contains(cx, cy)) continue;
+
+                    long key = ChunkKey.of(cx, cy);
+                    if (loadedChunks.containsKey(key) || pendingChunks.contains(key)
+                            || cachedChunks.containsKey(key)) continue;
+
+                    requestChunk(cx, cy);
+                    pendingChunks.add(key);
+                    prefetchedChunks.add(key);
+                    prefetcher.recordRequest();
+                    requested++;
+                }
+            }
+        }
     }
 
-    /** Создает объект Chunk с канвасом нужного размера */
-    private Chunk createChunk(int cx, int cy) {
-        Chunk chunk = new Chunk(cx, cy, CHUNK_SIZE);
+    /** Обрезает диапазон по границам карты; бесконечный мир не обрезается */
+    private void clampToWorld(ChunkRange range) {
+        if (bounded) range.clamp(maxChunkX, maxChunkY);
+    }
 
+    /** Отправляет чанк на растеризацию с учётом обрезки по краю карты */
+    private void requestChunk(int cx, int cy) {
+        if (!bounded) {
+            rasterizer.submit(cx, cy, CHUNK_SIZE + 1, CHUNK_SIZE + 1);
+            return;
+        }
         int chunkWidthTiles = Math.min(CHUNK_SIZE + 1, tilesX - cx * CHUNK_SIZE);
         int chunkHeightTiles = Math.min(CHUNK_SIZE + 1, tilesY - cy * CHUNK_SIZE);
+        rasterizer.submit(cx, cy, chunkWidthTiles, chunkHeightTiles);
+    }
 
-        Canvas canvas = chunk.getCanvas();
-        canvas.setWidth(chunkWidthTiles * tileSize);
-        canvas.setHeight(chunkHeightTiles * tileSize);
+    /**
+     * Прикрепляет к миру готовые чанки, но не больше {@link #MAX_ATTACHES_PER_FRAME} за кадр.
+     * Чанки, которые за время растеризации вышли из {@link #loadRange}, сразу уходят в кеш.
+     * Неудавшиеся чанки снимаются с ожидания; видимые запрашиваются снова в следующем кадре.
+     */
+    private void attachFinishedChunks() {
+        int attached = 0;
+        while (attached < MAX_ATTACHES_PER_FRAME) {
+            ChunkRasterizer.RasterizedChunk result = rasterizer.poll();
+            if (result == null) return;
+
+            if (result.failed()) {
+                // снимаем ожидание; видимый чанк запрашиваем заново уже в следующем кадре, даже если камера стоит
+                long key = ChunkKey.of(result.cx(), result.cy());
+                pendingChunks.remove(key);
+                prefetchedChunks.remove(key);
+                if (loadRange.contains(result.cx(), result.cy())) lastLoadRange.clear();
+                continue;
+            }
 
-        return chunk;
-    }
+            Chunk chunk = new Chunk(result.cx(), result.cy(), CHUNK_SIZE, result.image());
+            if (!pendingChunks.remove(chunk.getKey())) {
+                chunk.unload(); // запрос устарел, например после очистки карты
+                continue;
+            }
 
-    /** Отрисовывает тайлы на канвасе чанка */
-    private void renderTiles(Chunk chunk, int cx, int cy) {
-        Canvas canvas = chunk.getCanvas();
-        GraphicsContext gc = canvas.getGraphicsContext2D();
-
-        int chunkWidthTiles = (int) (canvas.getWidth() / tileSize);
-        int chunkHeightTiles = (int) (canvas.getHeight() / tileSize);
-
-        for (int y = 0; y < chunkHeightTiles; y++) {
-            for (int x = 0; x < chunkWidthTiles; x++) {
-                int worldX = cx * CHUNK_SIZE + x;
-                int worldY = cy * CHUNK_SIZE + y;
-                if (worldX >= tilesX || worldY >= tilesY) continue;
-
-                Image tile = groundTiles[worldX][worldY];
-                if (tile != null) {
-                    gc.drawImage(tile,
-                            Math.round(x * tileSize),
-                            Math.round(y * tileSize),
-                            tileSize,
-                            tileSize
-                    );
-                }
+            if (loadRange.contains(result.cx(), result.cy())) {
+                chunk.attach();
+                loadedChunks.put(chunk.getKey(), chunk);
+                attached++;
+            } else {
+                cachedChunks.put(chunk);
             }
         }
     }
 
-    /** Создает FXGL Entity и привязывает к чанку */
-    private void attachEntity(Chunk chunk) {
-        Entity entity = FXGL.entityBuilder()
-                .at(Math.round(chunk.getWorldX()), Math.round(chunk.getWorldY()))
-                .view(chunk.getCanvas())
-                .zIndex(-100)
-                .buildAndAttach();
-        chunk.addEntity(entity);
-    }
-
     /**
      * Переводит мировые координаты в координаты чанка.
      *
@@ -205,7 +383,8 @@ public class MapChunkService {
      * Полностью очищает все загруженные и кешированные чанки.
      * <p>
      * Для каждого чанка вызывается {@link Chunk#unload()}, после чего
-     * коллекции {@code loadedChunks} и {@code cachedChunks} очищаются.
+     * коллекции {@code loadedChunks} и {@code cachedChunks} очищаются,
+     * а рабочие потоки растеризатора останавливаются.
      * </p>
      * <p>
      * Используется, например, при перезапуске игры, смене карты или
@@ -213,14 +392,20 @@ public class MapChunkService {
      * </p>
      */
     public void clearChunks() {
-        for (Chunk chunk : loadedChunks.values()) {
-            chunk.unload();
+        rasterizer.shutdown();
+
+        pendingChunks.clear();
+        prefetchedChunks.clear();
+        lastLoadRange.clear();
+        lastKeepRange.clear();
+
+        for (int slot = 0; slot < loadedChunks.capacity(); slot++) {
+            Chunk chunk = loadedChunks.valueAt(slot);
+            if (chunk != null) chunk.unload();
         }
         loadedChunks.clear();
 
-        for (Chunk chunk : cachedChunks.values()) {
-            chunk.unload();
-        }
-        cachedChunks.clear();
+        cachedChunks.clear(Chunk::unload);
+        imagePool.clear();
     }
 }
@@ -0,0 +1,166 @@
+package org.example.deadknight.infrastructure.render.services;
+
+import com.almasb.fxgl.app.scene.Viewport;
+import com.almasb.fxgl.dsl.FXGL;
+import com.almasb.fxgl.entity.Entity;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+import javafx.scene.transform.Scale;
+import lombok.Getter;
+import org.example.deadknight.infrastructure.assets.AnimationClip;
+
+import java.util.Arrays;
+
+/**
+ * Пакетная отрисовка мобов на одном {@link Canvas}.
+ *
+ * <p>Вместо {@code ImageView} и {@code Rectangle} на каждого моба в сцене есть один узел — холст размером с экран.
+ * Каждый кадр:
+ * <ol>
+ *     <li>{@link #begin(Viewport)} ставит холст на место камеры и сбрасывает список спрайтов;</li>
+ *     <li>источники (сущности гоблинов, орда) добавляют видимых мобов через {@link #add};</li>
+ *     <li>{@link #flush()} сортирует спрайты по нижнему краю (кто ниже — тот ближе) и рисует их вместе с полосами здоровья.</li>
+ * </ol>
+ * Кадры берутся из общих {@link AnimationClip}, поэтому на моба не приходится ни одного узла сцены.
+ * Холст рисуется в пикселях экрана, а не мира: при приближении камеры спрайты не теряют чёткость.
+ *
+ * <p>Весь слой мобов лежит на одном {@code zIndex}: над тайлами и шипами, под игроком.
+ * Работает только в FX-потоке.
+ */
+public class MobCanvasRenderer {
+
+    /** Слой мобов: как у сущности гоблина по умолчанию */
+    private static final int Z_INDEX = 0;
+
+    /** Полоса здоровья: как в {@code GoblinFactory.attachHealthBar} */
+    private static final double HEALTH_BAR_X = 45;
+    private static final double HEALTH_BAR_Y = 50;
+    private static final double HEALTH_BAR_WIDTH = 40;
+    private static final double HEALTH_BAR_HEIGHT = 5;
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final Canvas canvas = new Canvas();
+    private final GraphicsContext gc = canvas.getGraphicsContext2D();
+    private final Scale screenToWorld = new Scale(1, 1, 0, 0);
+    private final Entity layer;
+
+    /** Видимая область мира текущего кадра */
+    private double minX;
+    private double minY;
+    private double maxX;
+    private double maxY;
+    private double zoom = 1;
+
+    /** Спрайты кадра */
+    private int count;
+    private double[] xs = new double[INITIAL_CAPACITY];
+    private double[] ys = new double[INITIAL_CAPACITY];
+    private double[] healths = new double[INITIAL_CAPACITY];
+    private int[] frames = new int[INITIAL_CAPACITY];
+    private AnimationClip[] clips = new AnimationClip[INITIAL_CAPACITY];
+
+    /** Ключи сортировки: нижний край спрайта в старших 32 битах, индекс спрайта в младших */
+    private long[] order = new long[INITIAL_CAPACITY];
+
+    /** Сколько мобов нарисовано в последнем кадре */
+    @Getter
+    private int drawnCount;
+
+    /** Создаёт холст и добавляет его в игровой мир */
+    public MobCanvasRenderer() {
+        canvas.getTransforms().add(screenToWorld);
+        canvas.setMouseTransparent(true);
+        this.layer = FXGL.entityBuilder()
+                .zIndex(Z_INDEX)
+                .view(canvas)
+                .buildAndAttach();
+    }
+
+    /**
+     * Начинает кадр: подгоняет холст под камеру и очищает список спрайтов.
+     *
+     * @param viewport камера игровой сцены
+     */
+    public void begin(Viewport viewport) {
+        zoom = viewport.getZoom();
+        minX = viewport.getX();
+        minY = viewport.getY();
+        maxX = minX + viewport.getWidth() / zoom;
+        maxY = minY + viewport.getHeight() / zoom;
+
+        layer.setPosition(minX, minY);
+        if (canvas.getWidth() != viewport.getWidth()) canvas.setWidth(viewport.getWidth());
+        if (canvas.getHeight() != viewport.getHeight()) canvas.setHeight(viewport.getHeight());
+        screenToWorld.setX(1 / zoom);
+        screenToWorld.setY(1 / zoom);
+
+        count = 0;
+    }
+
+    /**
+     * Добавляет моба в кадр. Мобы за пределами экрана отбрасываются.
+     *
+     * @param x              координата X левого верхнего угла спрайта в мире
+     * @param y              координата Y левого верхнего угла спрайта в мире
+     * @param clip           клип анимации
+     * @param frame          индекс кадра в клипе
+     * @param healthFraction доля здоровья от 0 до 1 (для полосы здоровья)
+     */
+    public void add(double x, double y, AnimationClip clip, int frame, double healthFraction) {
+        if (x > maxX || y > maxY || x + clip.getFrameWidth() < minX || y + clip.getFrameHeight() < minY) return;
+
+        if (count == xs.length) grow();
+        int i = count++;
+        xs[i] = x;
+        ys[i] = y;
+        clips[i] = clip;
+        frames[i] = Math.min(frame, clip.getFrameCount() - 1);
+        healths[i] = healthFraction;
+        order[i] = ((long) (int) Math.floor(y + clip.getFrameHeight()) << 32) | i;
+    }
+
+    /** Сортирует спрайты кадра по глубине и рисует их на холсте */
+    public void flush() {
+        gc.setTransform(1, 0, 0, 1, 0, 0);
+        gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        // дальше рисуем в координатах мира
+        gc.setTransform(zoom, 0, 0, zoom, -minX * zoom, -minY * zoom);
+
+        Arrays.sort(order, 0, count);
+        for (int k = 0; k < count; k++) {
+            int i = (int) order[k];
+            AnimationClip clip = clips[i];
+            Image image = clip.getFrame(frames[i]);
+            double w = clip.getFrameWidth();
+            double h = clip.getFrameHeight();
+            if (clip.isMirrored()) {
+                gc.drawImage(image, xs[i] + w, ys[i], -w, h);
+            } else {
+                gc.drawImage(image, xs[i], ys[i], w, h);
+            }
+        }
+
+        // полосы здоровья поверх всех спрайтов, как дочерний узел поверх ImageView
+        gc.setFill(Color.LIME);
+        for (int i = 0; i < count; i++) {
+            if (healths[i] <= 0) continue;
+            gc.fillRect(xs[i] + HEALTH_BAR_X, ys[i] + HEALTH_BAR_Y, HEALTH_BAR_WIDTH * healths[i], HEALTH_BAR_HEIGHT);
+        }
+
+        Arrays.fill(clips, 0, count, null);
+        drawnCount = count;
+    }
+
+    private void grow() {
+        int capacity = xs.length * 2;
+        xs = Arrays.copyOf(xs, capacity);
+        ys = Arrays.copyOf(ys, capacity);
+        healths = Arrays.copyOf(healths, capacity);
+        frames = Arrays.copyOf(frames, capacity);
+        clips = Arrays.copyOf(clips, capacity);
+        order = Arrays.copyOf(order, capacity);
+    }
+}
@@ -27,6 +27,7 @@ public class CameraService {
 
     /**
      * Привязывает камеру к игроку и задает границы движения.
+     * Если размеры мира бесконечны, камера не ограничивается.
      *
      * @param player сущность игрока
      * @param viewportWidth ширина видимой области
@@ -42,7 +43,12 @@ public class CameraService {
         FXGL.getGameScene().getViewport().setZoom(1.6);
         var viewport = FXGL.getGameScene().getViewport();
         viewport.bindToEntity(player, viewportWidth / 2.0, viewportHeight / 2.0);
-        viewport.setBounds(0, 0, (int) worldWidth, (int) worldHeight);
+        if (Double.isInfinite(worldWidth) || Double.isInfinite(worldHeight)) {
+            // бесконечный мир: снимаем ограничения, оставшиеся от предыдущей карты
+            viewport.setBounds(Integer.MIN_VALUE, Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE);
+        } else {
+            viewport.setBounds(0, 0, (int) worldWidth, (int) worldHeight);
+        }
     }
 
     /**
@@ -2,10 +2,9 @@ package org.example.deadknight.services;
 
 import com.almasb.fxgl.dsl.FXGL;
 import com.almasb.fxgl.entity.Entity;
-import com.almasb.fxgl.entity.SpawnData;
-import javafx.util.Duration;
 import lombok.Getter;
 import lombok.Setter;
+import org.example.deadknight.config.GameConfig;
 import org.example.deadknight.gameplay.actors.player.entities.KnightEntity;
 import org.example.deadknight.gameplay.actors.player.entities.IlyasPantherEntity;
 import org.example.deadknight.gameplay.actors.player.factories.KnightFactory;
@@ -13,8 +12,14 @@ import org.example.deadknight.gameplay.actors.player.factories.PantherFactory;
 import org.example.deadknight.gameplay.services.LootService;
 import org.example.deadknight.infrastructure.dto.GameWorldData;
 import org.example.deadknight.infrastructure.generation.BattlefieldBackgroundGenerator;
+import org.example.deadknight.infrastructure.map.io.MapFileWriter;
+import org.example.deadknight.infrastructure.map.io.MappedMapFile;
+import org.example.deadknight.infrastructure.map.model.TileMap;
+import org.example.deadknight.infrastructure.map.model.TileSource;
 import org.example.deadknight.infrastructure.render.services.MapChunkService;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Random;
 
 /**
@@ -22,10 +27,11 @@ import java.util.Random;
  * <p>
  * Отвечает за:
  * <ul>
- *     <li>Генерацию карты и её чанков</li>
+ *     <li>Генерацию карты и её чанков (фиксированной или бесконечной, см. {@link GameConfig#INFINITE_WORLD})</li>
+ *     <li>Загрузку и сохранение карты в файл {@link GameConfig#MAP_FILE}</li>
  *     <li>Создание игрока выбранного типа и размещение его в стартовой позиции</li>
- *     <li>Спавн врагов вокруг игрока (один раз за запуск)</li>
  * </ul>
+ * Враги спавнятся волнами через {@code SpawnDirector}, которым управляет {@link GameWorldManager}.
  */
 @Getter
 @Setter
@@ -40,56 +46,83 @@ public class GameInitializerService {
     /** Сервис для управления добычей (лутом) */
     private final LootService lootService;
 
-    /** Флаг первого спавна врагов, чтобы не дублировать их */
-    private boolean enemiesSpawned = false;
-
     /** Конструктор сервиса */
     public GameInitializerService() {
         this.lootService = new LootService();
     }
 
     /**
-     * Инициализирует весь игровой мир: создаёт карту, игрока и врагов.
+     * Инициализирует игровой мир: создаёт карту и игрока.
      *
      * @param characterType тип персонажа ("knight" или "panther")
      * @return {@link GameWorldData} с игроком, картой и размерами мира
+     *         (для бесконечного мира размеры равны {@link Double#POSITIVE_INFINITY})
      */
     public GameWorldData initGameWorld(String characterType) {
 
-        MapChunkService mapChunkService = generateMap();
-        Entity player = spawnPlayer(characterType, mapChunkService);
-        spawnEnemiesOnce(player);
+        TileSource tileSource = createTileSource();
+        MapChunkService mapChunkService = new MapChunkService(tileSource);
+        Entity player = spawnPlayer(characterType, tileSource);
+
+        if (!tileSource.isBounded()) {
+            return new GameWorldData(player, mapChunkService, Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY);
+        }
 
         return new GameWorldData(
                 player,
                 mapChunkService,
-                MAP_WIDTH_TILES * BattlefieldBackgroundGenerator.tileSize,
-                MAP_HEIGHT_TILES * BattlefieldBackgroundGenerator.tileSize
+                tileSource.getWidthTiles().getAsInt() * BattlefieldBackgroundGenerator.tileSize,
+                tileSource.getHeightTiles().getAsInt() * BattlefieldBackgroundGenerator.tileSize
         );
     }
 
     /**
-     * Генерирует карту и возвращает сервис для управления чанками.
+     * Создаёт источник тайлов для карты.
+     * <ul>
+     *     <li>В режиме бесконечного мира карта заранее не генерируется:
+     *         чанки вычисляются из зерна по мере того, как попадают в кадр.</li>
+     *     <li>Если задан и существует {@link GameConfig#MAP_FILE}, карта открывается из файла
+     *         через отображение в память.</li>
+     *     <li>Иначе карта генерируется и, если задан {@link GameConfig#MAP_FILE}, сохраняется в файл.</li>
+     * </ul>
      *
-     * @return {@link MapChunkService} для работы с чанками карты
+     * @return источник тайлов для {@link MapChunkService}
      */
-    private MapChunkService generateMap() {
+    private TileSource createTileSource() {
         BattlefieldBackgroundGenerator generator = new BattlefieldBackgroundGenerator(
                 MAP_WIDTH_TILES, MAP_HEIGHT_TILES, new Random().nextLong()
         );
-        return new MapChunkService(generator.getGroundTileArray());
+        if (GameConfig.INFINITE_WORLD) {
+            return generator.createProceduralSource();
+        }
+
+        Path mapFile = GameConfig.MAP_FILE == null ? null : Path.of(GameConfig.MAP_FILE);
+        if (mapFile != null && Files.exists(mapFile)) {
+            MappedMapFile loaded = MappedMapFile.open(mapFile);
+            System.out.println("[DeadKnight] Карта загружена из " + mapFile + ": " + loaded.getWidth() + "x" + loaded.getHeight());
+            return loaded;
+        }
+
+        TileMap map = generator.generateTileMap();
+        if (mapFile != null) {
+            new MapFileWriter(MapChunkService.CHUNK_SIZE).write(map, mapFile);
+            System.out.println("[DeadKnight] Карта сохранена в " + mapFile);
+        }
+        return map;
     }
 
     /**
-     * Создаёт игрока выбранного типа и размещает его в центре карты.
+     * Создаёт игрока выбранного типа и размещает его в центре карты
+     * (в бесконечном мире — в начале координат).
      *
      * @param characterType тип персонажа ("knight" или "panther")
-     * @param mapChunkService сервис карты для возможного взаимодействия
+     * @param tileSource    источник тайлов карты, по которому определяется её центр
      * @return созданная сущность игрока
      */
-    private Entity spawnPlayer(String characterType, MapChunkService mapChunkService) {
-        double startX = MAP_WIDTH_TILES * BattlefieldBackgroundGenerator.tileSize / 2.0;
-        double startY = MAP_HEIGHT_TILES * BattlefieldBackgroundGenerator.tileSize / 2.0;
+    private Entity spawnPlayer(String characterType, TileSource tileSource) {
+        // центр ограниченной карты; бесконечный мир начинается в начале координат
+        double startX = tileSource.getWidthTiles().orElse(0) * BattlefieldBackgroundGenerator.tileSize / 2.0;
+        double startY = tileSource.getHeightTiles().orElse(0) * BattlefieldBackgroundGenerator.tileSize / 2.0;
 
         Entity player = switch (characterType) {
             case "knight" -> KnightFactory.create(new KnightEntity(100, 0.6, "RIGHT"), startX, startY);
@@ -100,65 +133,4 @@ public class GameInitializerService {
         FXGL.getGameWorld().addEntity(player);
         return player;
     }
-
-    /**
-     * Спавнит врагов вокруг игрока, но только один раз.
-     *
-     * @param player сущность игрока, вокруг которого спавнятся враги
-     */
-    private void spawnEnemiesOnce(Entity player) {
-        if (!enemiesSpawned) {
-            spawnEnemiesAroundPlayer(player, 100, 0.5);
-            enemiesSpawned = true;
-        }
-    }
-
-    /**
-     * Динамический спавн врагов с задержкой.
-     *
-     * @param player сущность игрока, рядом с которой спавнятся враги
-     * @param count количество врагов для спавна
-     * @param delayPerSpawnSeconds задержка между спавном каждого врага (в секундах)
-     */
-    public void spawnEnemiesAroundPlayer(Entity player, int count, double delayPerSpawnSeconds) {
-        Random random = new Random();
-
-        for (int i = 0; i < count; i++) {
-            scheduleEnemySpawn(player, random, i, delayPerSpawnSeconds);
-        }
-    }
-
-    /**
-     * Запланировать спавн одного врага с задержкой.
-     *
-     * @param player сущность игрока
-     * @param random объект для генерации случайного положения
-     * @param spawnIndex индекс врага (для вычисления задержки)
-     * @param delayPerSpawnSeconds задержка между спавнами
-     */
-    private void scheduleEnemySpawn(Entity player, Random random, int spawnIndex, double delayPerSpawnSeconds) {
-        FXGL.runOnce(() -> spawnEnemy(player, random), Duration.seconds(delayPerSpawnSeconds * spawnIndex));
-    }
-
-    /**
-     * Создаёт и размещает врага рядом с игроком.
-     *
-     * @param player сущность игрока
-     * @param random объект для генерации случайного положения
-     */
-    private void spawnEnemy(Entity player, Random random) {
-        double radiusX = 1500;
-        double radiusY = 1000;
-
-        double angle = random.nextDouble() * 2 * Math.PI;
-        double offsetX = Math.cos(angle) * radiusX;
-        double offsetY = Math.sin(angle) * radiusY;
-
-        double spawnX = player.getX() + offsetX;
-        double spawnY = player.getY() + offsetY;
-
-        FXGL.spawn("goblin", new SpawnData(spawnX, spawnY));
-
-        System.out.println("[DeadKnight] Гоблин заспавнен рядом с игроком: (" + spawnX + ", " + spawnY + ")");
-    }
 }
@@ -1,25 +1,44 @@
 package org.example.deadknight.services;
 
+import com.almasb.fxgl.app.scene.Viewport;
 import com.almasb.fxgl.dsl.FXGL;
 import com.almasb.fxgl.entity.Entity;
 import lombok.Getter;
 import lombok.Setter;
+import org.example.deadknight.config.GameConfig;
+import org.example.deadknight.gameplay.actors.mobs.components.AnimationComponent;
+import org.example.deadknight.gameplay.actors.mobs.entities.types.EntityType;
+import org.example.deadknight.gameplay.actors.mobs.service.GoblinPool;
 import org.example.deadknight.gameplay.actors.player.services.*;
 import org.example.deadknight.gameplay.actors.player.services.ui.UIService;
 import org.example.deadknight.gameplay.actors.player.systems.CollisionSystem;
+import org.example.deadknight.gameplay.combat.CombatSystem;
+import org.example.deadknight.gameplay.combat.listeners.FirstKillDialogueListener;
+import org.example.deadknight.gameplay.combat.listeners.LootDropListener;
+import org.example.deadknight.gameplay.combat.listeners.PlayerDeathListener;
+import org.example.deadknight.gameplay.horde.HordeSystem;
+import org.example.deadknight.gameplay.systems.AiLodScheduler;
+import org.example.deadknight.gameplay.systems.DamageableIndex;
+import org.example.deadknight.gameplay.systems.MobSpatialIndex;
+import org.example.deadknight.gameplay.systems.PlayerFlowField;
+import org.example.deadknight.gameplay.systems.SeparationSystem;
+import org.example.deadknight.gameplay.systems.SpatialGrid;
+import org.example.deadknight.gameplay.systems.SpawnDirector;
 import org.example.deadknight.infrastructure.dto.GameWorldData;
 import org.example.deadknight.infrastructure.factory.GameWorldFactory;
 import org.example.deadknight.infrastructure.render.services.MapChunkService;
+import org.example.deadknight.infrastructure.render.services.MobCanvasRenderer;
 
 /**
  * Менеджер игрового мира.
  * <p>
  * Основные задачи:
  * <ul>
- *     <li>Инициализация игрового мира (карта, игрок, враги)</li>
+ *     <li>Инициализация игрового мира (карта, игрок)</li>
+ *     <li>Спавн волн врагов через {@link SpawnDirector}</li>
  *     <li>Создание игрока через {@link PlayerService} и управление его логикой</li>
  *     <li>Управление пользовательским интерфейсом через {@link UIService}</li>
- *     <li>Обработка коллизий и обновление карты чанков</li>
+ *     <li>Обработка коллизий, разрешение боя через {@link CombatSystem} и обновление карты чанков</li>
  *     <li>Перезапуск игры после смерти игрока</li>
  * </ul>
  * <p>
@@ -50,6 +69,18 @@ public class GameWorldManager {
     /** Система обработки коллизий */
     private CollisionSystem collisionSystem;
 
+    /** Режиссёр волн врагов; пересоздаётся на каждый запуск игры */
+    private SpawnDirector spawnDirector;
+
+    /** Орда мобов в режиме {@link GameConfig#HORDE_MODE}, иначе {@code null} */
+    private HordeSystem hordeSystem;
+
+    /** Холст пакетной отрисовки мобов в режиме {@link GameConfig#CANVAS_MOB_RENDERER}, иначе {@code null} */
+    private MobCanvasRenderer mobRenderer;
+
+    /** Пакетная система разделения мобов и игрока */
+    private final SeparationSystem separationSystem = new SeparationSystem();
+
     /**
      * Конструктор менеджера игрового мира.
      *
@@ -93,6 +124,10 @@ public class GameWorldManager {
      *     <li>{@link #playerService} — сервис игрока для движения и апгрейдов</li>
      *     <li>{@link #mapChunkService} — сервис управления картой и чанками</li>
      *     <li>{@link #collisionSystem} — система обработки коллизий</li>
+     *     <li>{@link #hordeSystem} — орда мобов (только в режиме {@link GameConfig#HORDE_MODE})</li>
+     *     <li>{@link #spawnDirector} — режиссёр волн врагов в границах мира</li>
+     *     <li>{@link #mobRenderer} — холст мобов (только в режиме {@link GameConfig#CANVAS_MOB_RENDERER})</li>
+     *     <li>слушатели {@link CombatSystem}: дроп, Game Over и реплика о первом убийстве</li>
      * </ul>
      *
      * @param worldData Данные игрового мира, возвращаемые {@link GameInitializerService}.
@@ -104,6 +139,13 @@ public class GameWorldManager {
         this.playerService = gwo.playerService;
         this.mapChunkService = gwo.mapChunkService;
         this.collisionSystem = new CollisionSystem();
+        this.hordeSystem = GameConfig.HORDE_MODE ? new HordeSystem(initializer.getLootService()) : null;
+        this.spawnDirector = new SpawnDirector(worldData.mapWidth(), worldData.mapHeight(), hordeSystem);
+        this.mobRenderer = GameConfig.CANVAS_MOB_RENDERER ? new MobCanvasRenderer() : null;
+
+        CombatSystem.addListener(new LootDropListener());
+        CombatSystem.addListener(new PlayerDeathListener(player, uiService, () -> startGame(currentCharacterType)));
+        CombatSystem.addListener(new FirstKillDialogueListener(player));
     }
 
     /**
@@ -130,7 +172,13 @@ public class GameWorldManager {
      */
     private void clearScene() {
         if (mapChunkService != null) mapChunkService.clearChunks();
-        FXGL.getGameWorld().removeEntities(FXGL.getGameWorld().getEntitiesCopy());
+        MobSpatialIndex.clear();
+        AiLodScheduler.clear();
+        DamageableIndex.clear();
+        CombatSystem.clear();
+        PlayerFlowField.clear();
+        // гоблины из пула остаются в мире, чтобы новая игра спавнила волны без создания сущностей
+        FXGL.getGameWorld().removeEntities(FXGL.getGameWorld().getEntitiesFiltered(e -> !GoblinPool.isPooled(e)));
         FXGL.getGameScene().clearUINodes();
         FXGL.getInput().clearAll();
     }
@@ -140,11 +188,17 @@ public class GameWorldManager {
      * <p>
      * Вызывает обновление:
      * <ul>
+     *     <li>пространственного индекса мобов, уровней детализации их ИИ и разделения мобов одним пакетом</li>
+     *     <li>спавна волн врагов по бюджету кадра</li>
+     *     <li>общего поля направлений к игроку (только при смене тайла игрока)</li>
+     *     <li>орды мобов одним циклом (в режиме {@link GameConfig#HORDE_MODE})</li>
+     *     <li>индекса целей для попаданий снарядов</li>
      *     <li>логики игрока (движение, апгрейды)</li>
      *     <li>коллизий</li>
+     *     <li>разрешение урона и лечения кадра одним пакетом (смерть игрока ведёт к Game Over)</li>
      *     <li>UI (HealthBar, апгрейды)</li>
-     *     <li>проверку Game Over</li>
-     *     <li>карты чанков вокруг игрока</li>
+     *     <li>карты чанков в области, видимой камерой</li>
+     *     <li>холста мобов (в режиме {@link GameConfig#CANVAS_MOB_RENDERER})</li>
      * </ul>
      *
      * @param tpf время, прошедшее с предыдущего кадра (time per frame)
@@ -152,10 +206,38 @@ public class GameWorldManager {
     public void update(double tpf) {
         if (player == null) return;
 
+        MobSpatialIndex.rebuild();                         // сетка мобов для поиска соседей
+        AiLodScheduler.update(FXGL.getGameScene().getViewport()); // уровни детализации ИИ мобов
+        separationSystem.update(player, tpf);              // разделение мобов и игрока
+        spawnDirector.update(FXGL.getGameScene().getViewport(), tpf); // волны врагов за краем экрана
+        PlayerFlowField.update(player, tpf);               // поле направлений к игроку
+        if (hordeSystem != null) hordeSystem.update(player, FXGL.getGameScene().getViewport(), tpf); // орда мобов
+        DamageableIndex.rebuild();                         // цели снарядов (после привязки прокси орды)
         playerService.update(tpf);                         // движение + апгрейды
         collisionSystem.update(player, tpf);               // коллизии
+        CombatSystem.resolve();                            // урон, лечение, смерти, дроп, GameOver
         uiService.update();                                // HealthBar и апгрейды UI
-        uiService.checkGameOver(player, () -> startGame(currentCharacterType)); // GameOver
-        mapChunkService.updateVisibleChunks(player.getX(), player.getY());
+        mapChunkService.updateVisibleChunks(FXGL.getGameScene().getViewport(), tpf);
+        if (mobRenderer != null) renderMobs(FXGL.getGameScene().getViewport());
+    }
+
+    /**
+     * Рисует всех видимых мобов (сущности гоблинов и орду) на холсте мобов.
+     *
+     * @param viewport камера игровой сцены
+     */
+    private void renderMobs(Viewport viewport) {
+        mobRenderer.begin(viewport);
+
+        SpatialGrid mobs = MobSpatialIndex.getGrid();
+        for (int i = 0; i < mobs.size(); i++) {
+            Entity mob = mobs.getEntity(i);
+            // гоблин мог умереть и уйти в пул после построения сетки
+            if (!mob.isActive() || !mob.isType(EntityType.HOSTILE_MOB)) continue;
+            if (mob.hasComponent(AnimationComponent.class)) mob.getComponent(AnimationComponent.class).drawTo(mobRenderer);
+        }
+        if (hordeSystem != null) hordeSystem.draw(mobRenderer);
+
+        mobRenderer.flush();
     }
 }
@@ -57,6 +57,7 @@ public class DebugOverlayService {
         g.setFill(Color.color(1, 0, 0, 0.2));
 
         for (Entity e : entities) {
+            if (!e.isVisible()) continue; // например, гоблины в пуле
             BoundingBoxComponent bbox = e.getComponentOptional(BoundingBoxComponent.class).orElse(null);
             if (bbox == null) continue;
 
@@ -0,0 +1,31 @@
+package org.example.deadknight.services.exceptions;
+
+/**
+ * Исключение, выбрасываемое при ошибке загрузки карты из файла.
+ * <p>
+ * Используется, когда файл карты не удаётся открыть или отобразить в память,
+ * а также когда его содержимое повреждено или записано в неподдерживаемой версии формата.
+ */
+public class MapLoadException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Создаёт новое исключение с сообщением.
+     *
+     * @param message подробное сообщение об ошибке
+     */
+    public MapLoadException(String message) {
+        super(message);
+    }
+
+    /**
+     * Создаёт новое исключение с сообщением и причиной ошибки.
+     *
+     * @param message подробное сообщение об ошибке
+     * @param cause   исходная причина ошибки (обычно {@link java.io.IOException})
+     */
+    public MapLoadException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
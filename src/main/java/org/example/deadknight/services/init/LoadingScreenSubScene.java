@@ -11,6 +11,7 @@ import javafx.scene.image.ImageView;
 import javafx.scene.layout.StackPane;
 import javafx.scene.paint.Color;
 import org.example.deadknight.gameplay.actors.mobs.factories.GoblinFactory;
+import org.example.deadknight.gameplay.actors.mobs.service.GoblinPool;
 import org.example.deadknight.gameplay.services.LootService;
 
 /**
@@ -75,7 +76,10 @@ public class LoadingScreenSubScene extends SubScene {
                     try { Thread.sleep(50); } catch (InterruptedException ignored) {}
                 }
 
-                Platform.runLater(onComplete);
+                Platform.runLater(() -> {
+                    GoblinPool.prewarm(GoblinPool.PREWARM_SIZE); // сущности создаются только в FX-потоке
+                    onComplete.run();
+                });
             });
         });
     }